@@ -145,7 +145,7 @@ public final class GearType {
     public static GearType getOrCreate(String name, @Nullable GearType parent, int animationFrames, Supplier<ItemStat> durabilityStat) {
         if (VALID_NAME.matcher(name).find())
             throw new IllegalArgumentException("Invalid name: " + name);
-        return VALUES.computeIfAbsent(name, k -> new GearType(name, parent, animationFrames, durabilityStat));
+        return VALUES.computeIfAbsent(name, k -> new GearType(name, parent, VALUES.size(), animationFrames, durabilityStat));
     }
 
     public static GearType fromJson(JsonObject json, String key) {
@@ -159,12 +159,19 @@ public final class GearType {
 
     private final String name;
     @Nullable private final GearType parent;
+    private final int ordinal;
+    // Ordinals of this type and all of its ancestors. Parents always exist before their children,
+    // so this never changes after construction.
+    private final BitSet hierarchy;
     private final int animationFrames;
     private final Supplier<ItemStat> durabilityStat;
 
-    private GearType(String name, @Nullable GearType parent, int animationFrames, Supplier<ItemStat> durabilityStat) {
+    private GearType(String name, @Nullable GearType parent, int ordinal, int animationFrames, Supplier<ItemStat> durabilityStat) {
         this.name = name;
         this.parent = parent;
+        this.ordinal = ordinal;
+        this.hierarchy = parent != null ? (BitSet) parent.hierarchy.clone() : new BitSet();
+        this.hierarchy.set(ordinal);
         this.animationFrames = animationFrames;
         this.durabilityStat = durabilityStat;
     }
@@ -183,6 +190,15 @@ public final class GearType {
         return parent;
     }
 
+    /**
+     * Gets the index of the gear type in creation order. Useful for array-based lookup tables.
+     *
+     * @return The gear type's ordinal
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     public int getAnimationFrames() {
         return animationFrames;
     }
@@ -203,7 +219,7 @@ public final class GearType {
     }
 
     public boolean matches(GearType type) {
-        return matches(type.name, true);
+        return matches(type, true);
     }
 
     /**
@@ -216,14 +232,18 @@ public final class GearType {
      * @return True if this type's name is equal to type, or if its parent matches (recursive)
      */
     public boolean matches(String type, boolean includeAll) { //FIXME: The way includesAll is handled does not make sense anymore
-        if (type.contains("/")) {
-            return matches(type.split("/")[1], includeAll);
+        int slash = type.indexOf('/');
+        if (slash >= 0) {
+            int end = type.indexOf('/', slash + 1);
+            return matches(type.substring(slash + 1, end >= 0 ? end : type.length()), includeAll);
         }
-        return (includeAll && "all".equals(type)) || name.equals(type) || (parent != null && parent.matches(type, includeAll));
+
+        GearType gearType = VALUES.get(type);
+        return gearType != null && matches(gearType, includeAll);
     }
 
     public boolean matches(GearType type, boolean includeAll) {
-        return matches(type.name, includeAll);
+        return (includeAll && type == ALL) || hierarchy.get(type.ordinal);
     }
 
     public boolean isGear() {
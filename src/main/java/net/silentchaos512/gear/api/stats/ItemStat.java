@@ -35,6 +35,7 @@ public class ItemStat extends ForgeRegistryEntry<ItemStat> implements IItemStat
     private final boolean displayAsInt;
     private final DisplayFormat displayFormat;
     private final Function<Float, Float> missingRodFunction;
+    private final int ordinal;
 
     public ItemStat(float defaultValue, float minValue, float maxValue, TextFormatting nameColor, Properties properties) {
         this(defaultValue, minValue, maxValue, new Color(nameColor.getColor() != null ? nameColor.getColor() : Color.VALUE_WHITE), properties);
@@ -63,9 +64,20 @@ public class ItemStat extends ForgeRegistryEntry<ItemStat> implements IItemStat
             throw new IllegalArgumentException("Default value cannot be bigger than maximum value!");
         }
 
+        this.ordinal = ItemStats.STATS_IN_ORDER.size();
         ItemStats.STATS_IN_ORDER.add(this);
     }
 
+    /**
+     * Gets the index of this stat in {@link ItemStats#allStatsOrdered()}. Useful for storing stat
+     * values in arrays instead of maps.
+     *
+     * @return The stat's ordinal
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     @Override
     public ResourceLocation getStatId() {
         return Objects.requireNonNull(getRegistryName());
@@ -173,6 +185,51 @@ public class ItemStat extends ForgeRegistryEntry<ItemStat> implements IItemStat
         return clampValue ? clampValue(f1) : f1;
     }
 
+    /**
+     * Computes the stat value from modifier values which have already been grouped by operation,
+     * as done by {@link StatVector}. The result is identical to {@link #compute(float, boolean,
+     * GearType, GearType, Collection)} given the same modifiers.
+     *
+     * @param baseValue   The base value
+     * @param clampValue  Whether to clamp the result
+     * @param values      Modifier values. Values for each operation must be contiguous and in the
+     *                    order the modifiers were added.
+     * @param bucketStart Start indices into {@code values}, where the values for operation
+     *                    {@code op} are in {@code [bucketStart[firstBucket + op.ordinal()],
+     *                    bucketStart[firstBucket + op.ordinal() + 1])}
+     * @param firstBucket Index of the bucket for the first operation ({@link Operation#AVG})
+     * @return The computed stat value
+     */
+    public float compute(float baseValue, boolean clampValue, float[] values, int[] bucketStart, int firstBucket) {
+        float f0 = baseValue;
+
+        // Average (weighted, used for mains)
+        f0 += getWeightedAverage(values, bucketStart[firstBucket], bucketStart[firstBucket + 1]);
+
+        // Maximum
+        int bucket = firstBucket + Operation.MAX.ordinal();
+        for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; ++i)
+            f0 = Math.max(f0, values[i]);
+
+        // Multiplicative
+        float f1 = f0;
+        bucket = firstBucket + Operation.MUL1.ordinal();
+        for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; ++i)
+            f1 += f0 * values[i];
+
+        // Multiplicative2
+        bucket = firstBucket + Operation.MUL2.ordinal();
+        for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; ++i)
+            f1 *= 1.0f + values[i];
+
+        // Additive
+        bucket = firstBucket + Operation.ADD.ordinal();
+        for (int i = bucketStart[bucket]; i < bucketStart[bucket + 1]; ++i)
+            f1 += values[i];
+
+        return clampValue ? clampValue(f1) : f1;
+    }
+
     private static float getPrimaryMod(Iterable<StatInstance> modifiers, Operation op) {
         float primaryMod = -1f;
         for (StatInstance mod : modifiers) {
@@ -193,7 +250,7 @@ public class ItemStat extends ForgeRegistryEntry<ItemStat> implements IItemStat
         for (StatInstance mod : modifiers) {
             if (mod.getOp() == op) {
                 ++count;
-                float weight = getModifierWeight(mod, primaryMod, count);
+                float weight = getModifierWeight(mod.getValue(), primaryMod, count);
                 totalWeight += weight;
                 ret += mod.getValue() * weight;
             }
@@ -201,8 +258,29 @@ public class ItemStat extends ForgeRegistryEntry<ItemStat> implements IItemStat
         return count > 0 && totalWeight > 0 ? ret / totalWeight : ret;
     }
 
-    private static float getModifierWeight(StatInstance mod, float primaryMod, int count) {
-        float weightBase = WEIGHT_BASE_MIN + WEIGHT_DEVIATION_COEFF * (mod.getValue() - primaryMod) / primaryMod;
+    private static float getWeightedAverage(float[] values, int start, int end) {
+        float primaryMod = -1f;
+        for (int i = start; i < end; ++i) {
+            if (primaryMod < 0f) {
+                primaryMod = values[i];
+            }
+        }
+        primaryMod = primaryMod > 0 ? primaryMod : 1;
+
+        float ret = 0;
+        int count = 0;
+        float totalWeight = 0f;
+        for (int i = start; i < end; ++i) {
+            ++count;
+            float weight = getModifierWeight(values[i], primaryMod, count);
+            totalWeight += weight;
+            ret += values[i] * weight;
+        }
+        return count > 0 && totalWeight > 0 ? ret / totalWeight : ret;
+    }
+
+    private static float getModifierWeight(float value, float primaryMod, int count) {
+        float weightBase = WEIGHT_BASE_MIN + WEIGHT_DEVIATION_COEFF * (value - primaryMod) / primaryMod;
         float weightBaseClamped = MathHelper.clamp(weightBase, WEIGHT_BASE_MIN, WEIGHT_BASE_MAX);
         return (float) Math.pow(weightBaseClamped, -(count == 0 ? count : 0.5 + 0.5f * count));
     }
@@ -2,15 +2,15 @@ package net.silentchaos512.gear.api.stats;
 
 import net.minecraft.util.ResourceLocation;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A stat which may not exist. Useful for supporting stats added by other mods, mainly for data
  * generators.
  */
 public final class LazyItemStat implements IItemStat {
-    private static final Map<ResourceLocation, LazyItemStat> CACHE = new HashMap<>();
+    private static final Map<ResourceLocation, LazyItemStat> CACHE = new ConcurrentHashMap<>();
 
     private final ResourceLocation id;
 
@@ -0,0 +1,178 @@
+package net.silentchaos512.gear.api.stats;
+
+import net.silentchaos512.gear.api.item.GearType;
+import net.silentchaos512.gear.api.util.StatGearKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A dense alternative to {@link StatModifierMap} for computing all stats of a single gear item.
+ * Modifiers are bucketed by stat, gear type depth (position in the item's gear type hierarchy), and
+ * operation, so each stat can be computed in one pass over primitive arrays.
+ * <p>
+ * Only modifiers whose key is in the item's gear type hierarchy are stored, since those are the
+ * only ones {@link StatModifierMap#get(StatGearKey)} would ever return for the item's key. Results
+ * are identical to computing with the equivalent {@link StatModifierMap}.
+ */
+public final class StatVector {
+    private static final int OP_COUNT = StatInstance.Operation.values().length;
+
+    private final GearType[] gearTypes;
+    private final int statCount;
+    private final boolean[] statPresent;
+
+    // Modifiers in the order they were added
+    private int size;
+    private int[] modBuckets = new int[32];
+    private StatInstance[] mods = new StatInstance[32];
+
+    // Built on first compute, reset when modifiers are added
+    private int[] bucketStart;
+    private float[] sortedValues;
+
+    public StatVector(GearType gearType) {
+        List<GearType> list = new ArrayList<>();
+        for (GearType type = gearType; type != null; type = type.getParent()) {
+            list.add(type);
+        }
+        this.gearTypes = list.toArray(new GearType[0]);
+        this.statCount = ItemStats.allStatsOrdered().size();
+        this.statPresent = new boolean[this.statCount];
+    }
+
+    /**
+     * Adds a stat modifier. The modifier's key determines which stat and gear type it applies to.
+     * The modifier is not copied, so it should not be modified afterwards.
+     *
+     * @param mod The stat modifier
+     */
+    public void add(StatInstance mod) {
+        StatGearKey key = mod.getKey();
+        if (!(key.getStat() instanceof ItemStat)) return;
+
+        int stat = ((ItemStat) key.getStat()).getOrdinal();
+        if (stat >= this.statCount) return;
+        this.statPresent[stat] = true;
+
+        int depth = getDepth(key.getGearType());
+        if (depth < 0) return;
+
+        if (this.size == this.mods.length) {
+            this.modBuckets = Arrays.copyOf(this.modBuckets, this.size * 2);
+            this.mods = Arrays.copyOf(this.mods, this.size * 2);
+        }
+        this.modBuckets[this.size] = getBucket(stat, depth, 0) + mod.getOp().ordinal();
+        this.mods[this.size] = mod;
+        ++this.size;
+        this.bucketStart = null;
+    }
+
+    /**
+     * Check if any modifiers were added for the stat, including modifiers for gear types outside
+     * the item's hierarchy.
+     *
+     * @param stat The stat
+     * @return True if the stat should be calculated and stored
+     */
+    public boolean hasStat(ItemStat stat) {
+        int index = stat.getOrdinal();
+        return index < this.statCount && this.statPresent[index];
+    }
+
+    /**
+     * Computes the stat value from the most specific modifiers available, equivalent to {@link
+     * ItemStat#compute(float, boolean, GearType, GearType, java.util.Collection)}. The result is
+     * clamped.
+     *
+     * @param stat      The stat
+     * @param baseValue The base value
+     * @return The computed value, or {@code baseValue} if there are no applicable modifiers
+     */
+    public float compute(ItemStat stat, float baseValue) {
+        int depth = getMostSpecificDepth(stat);
+        if (depth < 0) {
+            return baseValue;
+        }
+        return stat.compute(baseValue, true, this.sortedValues, this.bucketStart, getBucket(stat.getOrdinal(), depth, 0));
+    }
+
+    /**
+     * Gets the modifiers that would be used by {@link #compute(ItemStat, float)}, in the order they
+     * were added. Intended for debugging and display only.
+     *
+     * @param stat The stat
+     * @return The most specific modifiers for the stat
+     */
+    public List<StatInstance> getModifiers(ItemStat stat) {
+        int depth = getMostSpecificDepth(stat);
+        if (depth < 0) {
+            return Collections.emptyList();
+        }
+
+        // Restore insertion order across operations
+        List<StatInstance> ret = new ArrayList<>();
+        int first = getBucket(stat.getOrdinal(), depth, 0);
+        for (int i = 0; i < this.size; ++i) {
+            if (this.modBuckets[i] >= first && this.modBuckets[i] < first + OP_COUNT) {
+                ret.add(this.mods[i]);
+            }
+        }
+        return ret;
+    }
+
+    private int getMostSpecificDepth(ItemStat stat) {
+        int index = stat.getOrdinal();
+        if (index >= this.statCount || !this.statPresent[index]) {
+            return -1;
+        }
+
+        bake();
+        for (int depth = 0; depth < this.gearTypes.length; ++depth) {
+            int first = getBucket(index, depth, 0);
+            if (this.bucketStart[first] != this.bucketStart[first + OP_COUNT]) {
+                return depth;
+            }
+        }
+        return -1;
+    }
+
+    private int getDepth(GearType gearType) {
+        for (int i = 0; i < this.gearTypes.length; ++i) {
+            if (this.gearTypes[i].equals(gearType)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int getBucket(int stat, int depth, int op) {
+        return (stat * this.gearTypes.length + depth) * OP_COUNT + op;
+    }
+
+    private void bake() {
+        if (this.bucketStart != null) return;
+
+        // Counting sort by bucket, which keeps insertion order within each bucket
+        int bucketCount = this.statCount * this.gearTypes.length * OP_COUNT;
+        int[] start = new int[bucketCount + 1];
+        for (int i = 0; i < this.size; ++i) {
+            ++start[this.modBuckets[i] + 1];
+        }
+        for (int i = 0; i < bucketCount; ++i) {
+            start[i + 1] += start[i];
+        }
+
+        int[] next = Arrays.copyOf(start, bucketCount);
+        float[] values = new float[this.size];
+        for (int i = 0; i < this.size; ++i) {
+            int pos = next[this.modBuckets[i]]++;
+            values[pos] = this.mods[i].getValue();
+        }
+
+        this.bucketStart = start;
+        this.sortedValues = values;
+    }
+}
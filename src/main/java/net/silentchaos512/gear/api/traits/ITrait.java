@@ -24,6 +24,7 @@ import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
 public interface ITrait {
@@ -110,6 +111,16 @@ public interface ITrait {
 
     ITraitSerializer<?> getSerializer();
 
+    /**
+     * Gets the hooks (event methods) this trait responds to. Gear will not call hook methods
+     * which are not included. The default implementation returns all hooks, which is always safe.
+     *
+     * @return An unmodifiable set of hooks
+     */
+    default Set<TraitHook> getHooks() {
+        return TraitHook.all();
+    }
+
     float onAttackEntity(TraitActionContext context, LivingEntity target, float baseValue);
 
     float onDurabilityDamage(TraitActionContext context, int damageTaken);
@@ -143,6 +154,17 @@ public interface ITrait {
 
     void onUpdate(TraitActionContext context, boolean isEquipped);
 
+    /**
+     * How often {@link #onUpdate(TraitActionContext, boolean)} is called, in ticks. Traits which
+     * do not need to act every tick (refreshing potion effects, for example) can return a larger
+     * value to save some work.
+     *
+     * @return The update interval in ticks, at least 1
+     */
+    default int getUpdateInterval() {
+        return 1;
+    }
+
     ItemStack addLootDrops(TraitActionContext context, ItemStack stack);
 
     default CompoundNBT write(int level) {
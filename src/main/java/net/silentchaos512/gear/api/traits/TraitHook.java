@@ -0,0 +1,67 @@
+package net.silentchaos512.gear.api.traits;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The event methods of {@link ITrait} which gear code dispatches to. Traits report which of these
+ * they respond to with {@link ITrait#getHooks()}, so that gear only needs to call the traits that
+ * actually implement a hook.
+ */
+public enum TraitHook {
+    ATTACK_ENTITY("onAttackEntity"),
+    DURABILITY_DAMAGE("onDurabilityDamage"),
+    GEAR_CRAFTED("onGearCrafted"),
+    RECALCULATE_PRE("onRecalculatePre"),
+    RECALCULATE_POST("onRecalculatePost"),
+    GET_STAT("onGetStat"),
+    GET_ATTRIBUTE_MODIFIERS("onGetAttributeModifiers"),
+    ITEM_USE("onItemUse"),
+    ITEM_SWING("onItemSwing"),
+    UPDATE("onUpdate"),
+    ADD_LOOT_DROPS("addLootDrops");
+
+    private static final Set<TraitHook> ALL = Collections.unmodifiableSet(EnumSet.allOf(TraitHook.class));
+
+    private final String methodName;
+
+    TraitHook(String methodName) {
+        this.methodName = methodName;
+    }
+
+    /**
+     * Gets the name of the {@link ITrait} method (or methods, if overloaded) for this hook.
+     *
+     * @return The method name
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Gets the hook for the {@link ITrait} method name.
+     *
+     * @param methodName The method name
+     * @return The hook, or null if the method is not a hook
+     */
+    @Nullable
+    public static TraitHook byMethodName(String methodName) {
+        for (TraitHook hook : values()) {
+            if (hook.methodName.equals(methodName)) {
+                return hook;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * An unmodifiable set of all hooks.
+     *
+     * @return All hooks
+     */
+    public static Set<TraitHook> all() {
+        return ALL;
+    }
+}
@@ -10,20 +10,27 @@ import net.silentchaos512.gear.api.stats.ItemStat;
 import net.silentchaos512.gear.api.stats.ItemStats;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class StatGearKey {
-    private static final Map<Pair<IItemStat, GearType>, StatGearKey> CACHE = new HashMap<>();
+    // Keys of registered stats, indexed by stat ordinal and gear type ordinal. The arrays are never
+    // modified once published, so lookups do not need to lock.
+    private static volatile StatGearKey[][] table = new StatGearKey[0][];
+    // Fallback for stats which are not ItemStats
+    private static final Map<Pair<IItemStat, GearType>, StatGearKey> OTHER_KEYS = new ConcurrentHashMap<>();
 
     private final String key;
     private final IItemStat stat;
     private final GearType gearType;
+    @Nullable private final StatGearKey parent;
 
-    private StatGearKey(IItemStat stat, GearType gearType) {
+    private StatGearKey(IItemStat stat, GearType gearType, @Nullable StatGearKey parent) {
         this.stat = stat;
         this.gearType = gearType;
+        this.parent = parent;
 
         if (gearType != GearType.ALL) {
             this.key = SilentGear.shortenId(stat.getStatId()) + "/" + gearType.getName();
@@ -33,19 +40,67 @@ public final class StatGearKey {
     }
 
     public static StatGearKey of(IItemStat stat, GearType gearType) {
-        return CACHE.computeIfAbsent(Pair.of(stat, gearType), pair ->
-                new StatGearKey(pair.getFirst(), pair.getSecond()));
+        if (stat instanceof ItemStat) {
+            StatGearKey key = lookup(table, (ItemStat) stat, gearType);
+            return key != null ? key : intern((ItemStat) stat, gearType);
+        }
+
+        StatGearKey key = OTHER_KEYS.get(Pair.of(stat, gearType));
+        if (key == null) {
+            // Parent must be created first, the map does not allow recursive updates
+            StatGearKey parent = gearType.getParent() != null ? of(stat, gearType.getParent()) : null;
+            key = OTHER_KEYS.computeIfAbsent(Pair.of(stat, gearType), pair -> new StatGearKey(stat, gearType, parent));
+        }
+        return key;
     }
 
     @Nullable
-    public StatGearKey getParent() {
-        GearType parent = this.gearType.getParent();
-        if (parent != null) {
-            return of(this.stat, parent);
+    private static StatGearKey lookup(StatGearKey[][] table, ItemStat stat, GearType gearType) {
+        int statIndex = stat.getOrdinal();
+        if (statIndex < table.length) {
+            StatGearKey[] row = table[statIndex];
+            int typeIndex = gearType.getOrdinal();
+            if (row != null && typeIndex < row.length) {
+                return row[typeIndex];
+            }
         }
         return null;
     }
 
+    private static synchronized StatGearKey intern(ItemStat stat, GearType gearType) {
+        StatGearKey existing = lookup(table, stat, gearType);
+        if (existing != null) {
+            return existing;
+        }
+
+        GearType parentType = gearType.getParent();
+        StatGearKey parent = parentType != null ? of(stat, parentType) : null;
+        StatGearKey key = new StatGearKey(stat, gearType, parent);
+
+        // Copy on write, so readers never see a partially updated table
+        int statIndex = stat.getOrdinal();
+        int typeIndex = gearType.getOrdinal();
+        StatGearKey[][] newTable = Arrays.copyOf(table, Math.max(table.length, statIndex + 1));
+        StatGearKey[] row = newTable[statIndex];
+        row = row != null ? Arrays.copyOf(row, Math.max(row.length, typeIndex + 1)) : new StatGearKey[typeIndex + 1];
+        row[typeIndex] = key;
+        newTable[statIndex] = row;
+        table = newTable;
+
+        return key;
+    }
+
+    /**
+     * Gets the key for the same stat and the parent gear type. Keys are interned, so this is a
+     * simple field access.
+     *
+     * @return The parent key, or null if the gear type has no parent
+     */
+    @Nullable
+    public StatGearKey getParent() {
+        return parent;
+    }
+
     public IItemStat getStat() {
         return stat;
     }
@@ -76,7 +131,7 @@ public final class StatGearKey {
             gearType = GearType.ALL;
         }
 
-        return new StatGearKey(stat, gearType);
+        return of(stat, gearType);
     }
 
     @Nullable
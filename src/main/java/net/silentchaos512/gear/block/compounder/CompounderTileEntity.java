@@ -5,6 +5,7 @@ import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.container.Container;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.item.crafting.RecipeManager;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.PacketBuffer;
@@ -43,6 +44,15 @@ public class CompounderTileEntity<R extends CompoundingRecipe> extends LockableS
     @SyncVariable(name = "WorkEnabled")
     private boolean workEnabled = true;
 
+    // Result of matching the inputs, resolved again only when the inventory changes
+    private boolean inventoryChanged = true;
+    private boolean sleeping = false;
+    @Nullable private RecipeManager cachedRecipeManager;
+    private boolean cachedInputsEmpty = true;
+    @Nullable private R cachedRecipe;
+    private List<MaterialInstance> cachedMaterials = Collections.emptyList();
+    private ItemStack cachedOutput = ItemStack.EMPTY;
+
     @SuppressWarnings("OverlyComplexAnonymousInnerClass") private final IIntArray fields = new IIntArray() {
         @Override
         public int get(int index) {
@@ -64,6 +74,7 @@ public class CompounderTileEntity<R extends CompoundingRecipe> extends LockableS
                     break;
                 case 1:
                     workEnabled = value != 0;
+                    sleeping = false;
                     break;
             }
         }
@@ -129,42 +140,78 @@ public class CompounderTileEntity<R extends CompoundingRecipe> extends LockableS
 
     @Override
     public void tick() {
-        if (world == null || world.isRemote || areInputsEmpty()) {
-            // No point in doing anything on the client or when input slots are empty
+        if (world == null || world.isRemote) {
+            // No point in doing anything on the client
+            updateOutputHint(ItemStack.EMPTY);
+            return;
+        }
+
+        // Recipes are only looked up again when the inventory changes or data packs are reloaded
+        if (inventoryChanged || cachedRecipeManager != world.getRecipeManager()) {
+            resolveInputs();
+            sleeping = false;
+        }
+
+        if (sleeping) {
+            // Nothing can happen until the inventory or work state changes
+            return;
+        }
+
+        if (cachedInputsEmpty) {
             updateOutputHint(ItemStack.EMPTY);
+            sleeping = true;
+        } else if (cachedRecipe == null && cachedMaterials.isEmpty()) {
+            // Not a valid combination
+            stopWork(true);
+            sleeping = true;
+        } else {
+            doWork();
+        }
+    }
+
+    private void resolveInputs() {
+        assert world != null;
+
+        inventoryChanged = false;
+        cachedRecipeManager = world.getRecipeManager();
+        cachedInputsEmpty = areInputsEmpty();
+        cachedRecipe = null;
+        cachedMaterials = Collections.emptyList();
+        cachedOutput = ItemStack.EMPTY;
+
+        if (cachedInputsEmpty) {
             return;
         }
 
         R recipe = getRecipe();
         if (recipe != null) {
             // Inputs match a custom recipe
-            doWork(recipe, Collections.emptyList());
+            cachedRecipe = recipe;
+            cachedOutput = getWorkOutput(recipe, Collections.emptyList());
         } else {
             // No recipe, but we might be able to make a generic compound
             List<MaterialInstance> materials = getInputs();
-            if (!hasMultipleMaterials(materials) || !canCompoundMaterials(materials)) {
-                // Not a valid combination
-                stopWork(true);
-                return;
+            if (hasMultipleMaterials(materials) && canCompoundMaterials(materials)) {
+                cachedMaterials = materials;
+                cachedOutput = getWorkOutput(null, materials);
             }
-            doWork(null, materials);
         }
     }
 
-    private void doWork(@Nullable R recipe, List<MaterialInstance> materials) {
+    private void doWork() {
         assert world != null;
 
         ItemStack current = getStackInSlot(getOutputSlotIndex());
-        ItemStack output = getWorkOutput(recipe, materials);
 
-        updateOutputHint(output);
+        updateOutputHint(cachedOutput);
 
         if (!current.isEmpty()) {
-            int newCount = current.getCount() + output.getCount();
+            int newCount = current.getCount() + cachedOutput.getCount();
 
-            if (!InventoryUtils.canItemsStack(current, output) || newCount > output.getMaxStackSize()) {
+            if (!InventoryUtils.canItemsStack(current, cachedOutput) || newCount > cachedOutput.getMaxStackSize()) {
                 // Output items do not match or not enough room
                 stopWork(false);
+                sleeping = true;
                 return;
             }
         }
@@ -175,22 +222,26 @@ public class CompounderTileEntity<R extends CompoundingRecipe> extends LockableS
             }
 
             if (progress >= WORK_TIME && !world.isRemote) {
-                finishWork(recipe, materials, current);
+                finishWork(cachedRecipe, cachedMaterials, current);
             }
         } else {
             stopWork(false);
+            sleeping = true;
         }
     }
 
     private void updateOutputHint(ItemStack hintStack) {
-        setInventorySlotContents(getOutputHintSlotIndex(), hintStack);
+        int index = getOutputHintSlotIndex();
+        if (!ItemStack.areItemStacksEqual(getStackInSlot(index), hintStack)) {
+            setInventorySlotContents(index, hintStack.copy());
+        }
     }
 
     private void stopWork(boolean clearHintItem) {
         progress = 0;
 
         if (clearHintItem) {
-            setInventorySlotContents(getOutputHintSlotIndex(), ItemStack.EMPTY);
+            updateOutputHint(ItemStack.EMPTY);
         }
     }
 
@@ -203,6 +254,7 @@ public class CompounderTileEntity<R extends CompoundingRecipe> extends LockableS
         ItemStack output = getWorkOutput(recipe, materials);
         if (!current.isEmpty()) {
             current.grow(output.getCount());
+            markDirty();
         } else {
             setInventorySlotContents(getOutputSlotIndex(), output);
         }
@@ -278,9 +330,38 @@ public class CompounderTileEntity<R extends CompoundingRecipe> extends LockableS
         return ret;
     }
 
+    private void onInventoryChanged() {
+        inventoryChanged = true;
+        sleeping = false;
+    }
+
     @Override
     public void setInventorySlotContents(int index, ItemStack stack) {
         super.setInventorySlotContents(index, stack);
+        if (index != getOutputHintSlotIndex()) {
+            onInventoryChanged();
+        }
+    }
+
+    @Override
+    public ItemStack decrStackSize(int index, int count) {
+        ItemStack ret = super.decrStackSize(index, count);
+        onInventoryChanged();
+        return ret;
+    }
+
+    @Override
+    public ItemStack removeStackFromSlot(int index) {
+        ItemStack ret = super.removeStackFromSlot(index);
+        onInventoryChanged();
+        return ret;
+    }
+
+    @Override
+    public void markDirty() {
+        // Containers and item handlers call this after modifying stacks in place
+        super.markDirty();
+        onInventoryChanged();
     }
 
     @Override
@@ -322,6 +403,7 @@ public class CompounderTileEntity<R extends CompoundingRecipe> extends LockableS
     public void read(BlockState state, CompoundNBT tags) {
         super.read(state, tags);
         SyncVariable.Helper.readSyncVars(this, tags);
+        onInventoryChanged();
     }
 
     @Override
@@ -4,6 +4,7 @@ import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.container.Container;
 import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.RecipeManager;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.NetworkManager;
@@ -43,6 +44,13 @@ public class GraderTileEntity extends LockableSidedInventoryTileEntity implement
     private MaterialGrade lastGradeAttempt = MaterialGrade.NONE;
     private boolean requireClientSync = false;
 
+    // Input material and catalyst tier, resolved again only when the inventory changes
+    private boolean inventoryChanged = true;
+    private boolean sleeping = false;
+    @Nullable private RecipeManager cachedRecipeManager;
+    @Nullable private MaterialInstance cachedMaterial;
+    private int cachedCatalystTier;
+
     private final IIntArray fields = new IIntArray() {
         @Override
         public int get(int index) {
@@ -82,30 +90,37 @@ public class GraderTileEntity extends LockableSidedInventoryTileEntity implement
     public void tick() {
         if (world == null) return;
 
-        // Don't waste time if there is no input or no free output slots
-        ItemStack input = getInputStack();
-        if (input.isEmpty()) return;
+        // Recipe manager changes when data packs (and with them materials and tags) are reloaded
+        if (inventoryChanged || cachedRecipeManager != world.getRecipeManager()) {
+            inventoryChanged = false;
+            sleeping = false;
+            cachedRecipeManager = world.getRecipeManager();
+            cachedMaterial = getInputMaterial();
+            cachedCatalystTier = getCatalystTier(getCatalystStack());
+        }
 
-        int outputSlot = getFreeOutputSlot();
-        if (outputSlot < 0) return;
+        // Don't waste time if there is no input or no free output slots
+        if (sleeping) return;
 
-        ItemStack catalyst = getCatalystStack();
-        int catalystTier = getCatalystTier(catalyst);
-        if (catalystTier < 1) return;
+        MaterialInstance material = cachedMaterial;
+        if (material == null) {
+            // Input is not a gradeable material
+            progress = 0;
+        }
+        if (material == null || getFreeOutputSlot() < 0 || cachedCatalystTier < 1) {
+            sleeping = true;
+            return;
+        }
 
-        MaterialInstance material = MaterialInstance.from(input);
-        if (material != null && material.getGrade() != MaterialGrade.SSS) {
-            if (progress < BASE_ANALYZE_TIME) {
-                ++progress;
-            }
+        if (progress < BASE_ANALYZE_TIME) {
+            ++progress;
+        }
 
-            if (progress >= BASE_ANALYZE_TIME && !world.isRemote) {
-                progress = 0;
-                catalyst.shrink(1);
-                tryGradeItem(input, catalystTier, material);
-            }
-        } else {
+        if (progress >= BASE_ANALYZE_TIME && !world.isRemote) {
             progress = 0;
+            getCatalystStack().shrink(1);
+            tryGradeItem(getStackInSlot(INPUT_SLOT), cachedCatalystTier, material);
+            markDirty();
         }
 
 //        if (requireClientSync) {
@@ -134,14 +149,19 @@ public class GraderTileEntity extends LockableSidedInventoryTileEntity implement
     }
 
     private ItemStack getInputStack() {
+        return getInputMaterial() != null ? getStackInSlot(INPUT_SLOT) : ItemStack.EMPTY;
+    }
+
+    @Nullable
+    private MaterialInstance getInputMaterial() {
         ItemStack stack = getStackInSlot(INPUT_SLOT);
         if (!stack.isEmpty()) {
             MaterialInstance material = MaterialInstance.from(stack);
             if (material != null && material.getGrade() != MaterialGrade.SSS) {
-                return stack;
+                return material;
             }
         }
-        return ItemStack.EMPTY;
+        return null;
     }
 
     private ItemStack getCatalystStack() {
@@ -173,10 +193,43 @@ public class GraderTileEntity extends LockableSidedInventoryTileEntity implement
         return 0;
     }
 
+    private void onInventoryChanged() {
+        inventoryChanged = true;
+        sleeping = false;
+    }
+
+    @Override
+    public void setInventorySlotContents(int index, ItemStack stack) {
+        super.setInventorySlotContents(index, stack);
+        onInventoryChanged();
+    }
+
+    @Override
+    public ItemStack decrStackSize(int index, int count) {
+        ItemStack ret = super.decrStackSize(index, count);
+        onInventoryChanged();
+        return ret;
+    }
+
+    @Override
+    public ItemStack removeStackFromSlot(int index) {
+        ItemStack ret = super.removeStackFromSlot(index);
+        onInventoryChanged();
+        return ret;
+    }
+
+    @Override
+    public void markDirty() {
+        // Containers and item handlers call this after modifying stacks in place
+        super.markDirty();
+        onInventoryChanged();
+    }
+
     @Override
     public void read(BlockState state, CompoundNBT tags) {
         super.read(state, tags);
         SyncVariable.Helper.readSyncVars(this, tags);
+        onInventoryChanged();
     }
 
     @Override
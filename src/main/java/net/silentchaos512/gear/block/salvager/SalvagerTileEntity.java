@@ -22,6 +22,7 @@ import com.google.common.collect.ImmutableList;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.container.Container;
 import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.RecipeManager;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.util.Direction;
@@ -53,6 +54,12 @@ public class SalvagerTileEntity extends LockableSidedInventoryTileEntity impleme
 
     @SyncVariable(name = "progress") int progress = 0;
 
+    // Last matched recipe, resolved again only when the inventory changes
+    private boolean inventoryChanged = true;
+    private boolean sleeping = false;
+    @Nullable private RecipeManager cachedRecipeManager;
+    @Nullable private SalvagingRecipe cachedRecipe;
+
     private final IIntArray fields = new IIntArray() {
         @Override
         public int get(int index) {
@@ -89,14 +96,30 @@ public class SalvagerTileEntity extends LockableSidedInventoryTileEntity impleme
     public void tick() {
         if (world == null || world.isRemote) return;
 
+        // Recipes are only looked up again when the inventory changes or data packs are reloaded
+        if (inventoryChanged || cachedRecipeManager != world.getRecipeManager()) {
+            inventoryChanged = false;
+            sleeping = false;
+            cachedRecipeManager = world.getRecipeManager();
+            cachedRecipe = getRecipe();
+        }
+
+        if (sleeping) return;
+
         ItemStack input = getStackInSlot(0);
-        SalvagingRecipe recipe = getRecipe();
+        SalvagingRecipe recipe = cachedRecipe;
         if (recipe != null) {
             if (progress < BASE_WORK_TIME) {
                 ++progress;
             }
 
-            if (progress >= BASE_WORK_TIME && areAllOutputSlotsFree()) {
+            if (progress >= BASE_WORK_TIME) {
+                if (!areAllOutputSlotsFree()) {
+                    // Wait for the output slots to be emptied
+                    sleeping = true;
+                    return;
+                }
+
                 for (ItemStack stack : getSalvagedPartsWithChance(recipe, input)) {
                     int slot = getFreeOutputSlot();
                     if (slot > 0) {
@@ -111,9 +134,11 @@ public class SalvagerTileEntity extends LockableSidedInventoryTileEntity impleme
                 if (input.isEmpty()) {
                     setInventorySlotContents(0, ItemStack.EMPTY);
                 }
+                markDirty();
             }
         } else {
             progress = 0;
+            sleeping = true;
         }
     }
 
@@ -171,6 +196,38 @@ public class SalvagerTileEntity extends LockableSidedInventoryTileEntity impleme
         return true;
     }
 
+    private void onInventoryChanged() {
+        inventoryChanged = true;
+        sleeping = false;
+    }
+
+    @Override
+    public void setInventorySlotContents(int index, ItemStack stack) {
+        super.setInventorySlotContents(index, stack);
+        onInventoryChanged();
+    }
+
+    @Override
+    public ItemStack decrStackSize(int index, int count) {
+        ItemStack ret = super.decrStackSize(index, count);
+        onInventoryChanged();
+        return ret;
+    }
+
+    @Override
+    public ItemStack removeStackFromSlot(int index) {
+        ItemStack ret = super.removeStackFromSlot(index);
+        onInventoryChanged();
+        return ret;
+    }
+
+    @Override
+    public void markDirty() {
+        // Containers and item handlers call this after modifying stacks in place
+        super.markDirty();
+        onInventoryChanged();
+    }
+
     @Override
     public CompoundNBT getUpdateTag() {
         CompoundNBT tags = super.getUpdateTag();
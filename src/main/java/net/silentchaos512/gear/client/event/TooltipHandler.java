@@ -19,6 +19,7 @@ import net.silentchaos512.gear.api.util.StatGearKey;
 import net.silentchaos512.gear.block.grader.GraderTileEntity;
 import net.silentchaos512.gear.client.KeyTracker;
 import net.silentchaos512.gear.client.util.TextListBuilder;
+import net.silentchaos512.gear.client.util.TooltipCache;
 import net.silentchaos512.gear.config.Config;
 import net.silentchaos512.gear.gear.material.MaterialInstance;
 import net.silentchaos512.gear.gear.part.AbstractGearPart;
@@ -66,6 +67,17 @@ public final class TooltipHandler {
             onGraderCatalystTooltip(event);
         }
 
+        // The nerfed item line is inserted near the top, which cannot be cached
+        if (Config.Common.isNerfedItem(stack.getItem())) {
+            addLines(event, stack);
+            return;
+        }
+
+        int flags = TooltipCache.flags(event.getFlags().isAdvanced());
+        TooltipCache.addLines("tooltip_event", stack, flags, event.getToolTip(), tooltip -> addLines(event, stack));
+    }
+
+    private static void addLines(ItemTooltipEvent event, ItemStack stack) {
         MaterialInstance material = MaterialInstance.from(stack);
         if (material != null) {
             onMaterialTooltip(event, stack, material);
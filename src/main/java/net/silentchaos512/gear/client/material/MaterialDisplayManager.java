@@ -21,9 +21,11 @@ import net.silentchaos512.gear.api.material.IMaterialInstance;
 import net.silentchaos512.gear.api.part.IGearPart;
 import net.silentchaos512.gear.api.part.IPartDisplay;
 import net.silentchaos512.gear.api.part.PartDisplay;
+import net.silentchaos512.gear.client.model.LayeredModel;
 import net.silentchaos512.gear.client.model.fragment.FragmentModelLoader;
 import net.silentchaos512.gear.client.model.gear.GearModelLoader;
 import net.silentchaos512.gear.client.model.part.CompoundPartModelLoader;
+import net.silentchaos512.gear.client.util.TooltipCache;
 import net.silentchaos512.gear.util.IEarlySelectiveReloadListener;
 import net.silentchaos512.gear.util.TextUtil;
 import org.apache.commons.io.IOUtils;
@@ -50,10 +52,13 @@ public final class MaterialDisplayManager implements IEarlySelectiveReloadListen
 
     @Override
     public void onResourceManagerReload(IResourceManager resourceManager, Predicate<IResourceType> predicate) {
+        TooltipCache.invalidateAll();
+
         if (predicate.test(VanillaResourceType.MODELS)) {
             CompoundPartModelLoader.clearCaches();
             FragmentModelLoader.clearCaches();
             GearModelLoader.clearCaches();
+            LayeredModel.clearQuadCache();
 
             ERROR_LIST.clear();
             reloadMaterials(resourceManager);
@@ -0,0 +1,127 @@
+package net.silentchaos512.gear.client.model;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.client.renderer.model.IBakedModel;
+import net.minecraft.util.Util;
+import net.silentchaos512.gear.SilentGear;
+import net.silentchaos512.gear.config.Config;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caches the models baked by an item override list. Models are normally baked on the render
+ * thread the first time they are needed. If async model baking is enabled in the client config, a
+ * miss instead schedules the bake on the worker pool and returns a placeholder until it finishes:
+ * the last model baked for the same parent (usually the same item with slightly different parts),
+ * or the parent model if nothing has been baked for it yet.
+ *
+ * @param <K> The cache key type
+ */
+public class BakedModelCache<K> {
+    private final Cache<K, IBakedModel> cache = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .build();
+    private final Set<K> pending = ConcurrentHashMap.newKeySet();
+    // Keys which failed to bake, so they are not retried (and logged) every frame
+    private final Set<K> failed = ConcurrentHashMap.newKeySet();
+    private final Map<IBakedModel, IBakedModel> lastBakedByParent = new ConcurrentHashMap<>();
+    // Incremented when the cache is cleared, so bakes started before then are discarded
+    private volatile int generation;
+
+    private static boolean isAsyncEnabled() {
+        return Config.Client.asyncModelBaking.get();
+    }
+
+    /**
+     * Gets a cached model, or the placeholder if the model is still being baked. Returns the
+     * parent if the model failed to bake. Callers should check this before collecting anything
+     * needed to bake the model.
+     *
+     * @param key    The cache key
+     * @param parent The model the override list belongs to
+     * @return The model or placeholder, or null if the model needs to be baked
+     */
+    @Nullable
+    public IBakedModel get(K key, IBakedModel parent) {
+        IBakedModel baked = cache.getIfPresent(key);
+        if (baked != null) {
+            return baked;
+        }
+        if (failed.contains(key)) {
+            return parent;
+        }
+        if (pending.contains(key)) {
+            return getPlaceholder(parent);
+        }
+        return null;
+    }
+
+    /**
+     * Bakes a model which is not in the cache. The baker may run on another thread, so it must not
+     * read anything which could change in the meantime, like the item stack being rendered.
+     * Anything it needs should be collected before this is called.
+     *
+     * @param key    The cache key
+     * @param parent The model the override list belongs to
+     * @param baker  Bakes the model
+     * @return The baked model, or a placeholder if the model is being baked asynchronously
+     */
+    public IBakedModel bake(K key, IBakedModel parent, Supplier<IBakedModel> baker) {
+        if (!isAsyncEnabled()) {
+            try {
+                IBakedModel baked = baker.get();
+                put(key, parent, baked);
+                return baked;
+            } catch (RuntimeException ex) {
+                SilentGear.LOGGER.error("Failed to bake model for {}", key);
+                SilentGear.LOGGER.catching(ex);
+                failed.add(key);
+                return parent;
+            }
+        }
+
+        if (pending.add(key)) {
+            int startGeneration = this.generation;
+            CompletableFuture.supplyAsync(baker, Util.getServerExecutor()).whenComplete((baked, ex) -> {
+                if (ex != null) {
+                    SilentGear.LOGGER.error("Failed to bake model for {}", key);
+                    SilentGear.LOGGER.catching(ex);
+                    if (this.generation == startGeneration) {
+                        failed.add(key);
+                    }
+                } else if (this.generation == startGeneration) {
+                    put(key, parent, baked);
+                }
+                pending.remove(key);
+            });
+        }
+
+        // The bake may have already finished
+        IBakedModel ret = get(key, parent);
+        return ret != null ? ret : getPlaceholder(parent);
+    }
+
+    private IBakedModel getPlaceholder(IBakedModel parent) {
+        return lastBakedByParent.getOrDefault(parent, parent);
+    }
+
+    private void put(K key, IBakedModel parent, IBakedModel baked) {
+        cache.put(key, baked);
+        lastBakedByParent.put(parent, baked);
+    }
+
+    public void invalidateAll() {
+        ++this.generation;
+        cache.invalidateAll();
+        lastBakedByParent.clear();
+        failed.clear();
+    }
+}
@@ -1,5 +1,7 @@
 package net.silentchaos512.gear.client.model;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import net.minecraft.client.renderer.model.BakedQuad;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
@@ -12,10 +14,35 @@ import net.minecraftforge.client.model.pipeline.IVertexConsumer;
 import net.minecraftforge.client.model.pipeline.TRSRTransformer;
 
 import java.util.List;
+import java.util.Objects;
 
 public abstract class LayeredModel<T extends IModelGeometry<T>> implements IModelGeometry<T> {
-    // Quad builders (credit to Tetra, https://github.com/mickelus/tetra/blob/master/src/main/java/se/mickelus/tetra/client/model/ModularItemModel.java)
+    // Baked layers, shared by all gear, part and fragment models. Many gear combinations share the
+    // same layers, so most bakes only need to look them up.
+    private static final Cache<QuadCacheKey, List<BakedQuad>> QUAD_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(4096)
+            .build();
+
+    /**
+     * Clears the shared layer quad cache. Sprites are replaced when textures are stitched again,
+     * so cached quads are of no use after a reload.
+     */
+    public static void clearQuadCache() {
+        QUAD_CACHE.invalidateAll();
+    }
+
     public static List<BakedQuad> getQuadsForSprite(int tintIndex, TextureAtlasSprite sprite, TransformationMatrix transform, int color) {
+        QuadCacheKey key = new QuadCacheKey(tintIndex, sprite, transform, color);
+        List<BakedQuad> quads = QUAD_CACHE.getIfPresent(key);
+        if (quads == null) {
+            quads = buildQuadsForSprite(tintIndex, sprite, transform, color);
+            QUAD_CACHE.put(key, quads);
+        }
+        return quads;
+    }
+
+    // Quad builders (credit to Tetra, https://github.com/mickelus/tetra/blob/master/src/main/java/se/mickelus/tetra/client/model/ModularItemModel.java)
+    private static List<BakedQuad> buildQuadsForSprite(int tintIndex, TextureAtlasSprite sprite, TransformationMatrix transform, int color) {
         ImmutableList.Builder<BakedQuad> builder = ImmutableList.builder();
 
         int uMax = sprite.getWidth();
@@ -168,4 +195,37 @@ public abstract class LayeredModel<T extends IModelGeometry<T>> implements IMode
             }
         }
     }
+
+    private static final class QuadCacheKey {
+        private final int tintIndex;
+        private final TextureAtlasSprite sprite;
+        private final TransformationMatrix transform;
+        private final int color;
+        private final int hash;
+
+        private QuadCacheKey(int tintIndex, TextureAtlasSprite sprite, TransformationMatrix transform, int color) {
+            this.tintIndex = tintIndex;
+            this.sprite = sprite;
+            this.transform = transform;
+            this.color = color;
+            this.hash = Objects.hash(tintIndex, System.identityHashCode(sprite), transform, color);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            QuadCacheKey that = (QuadCacheKey) o;
+            // Sprites are compared by identity, they are replaced on every texture reload
+            return tintIndex == that.tintIndex
+                    && color == that.color
+                    && sprite == that.sprite
+                    && transform.equals(that.transform);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
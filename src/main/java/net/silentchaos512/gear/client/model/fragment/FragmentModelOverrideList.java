@@ -1,7 +1,5 @@
 package net.silentchaos512.gear.client.model.fragment;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import net.minecraft.client.renderer.model.*;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
@@ -18,6 +16,7 @@ import net.silentchaos512.gear.api.material.IMaterialDisplay;
 import net.silentchaos512.gear.api.material.MaterialLayer;
 import net.silentchaos512.gear.api.part.PartType;
 import net.silentchaos512.gear.client.material.MaterialDisplayManager;
+import net.silentchaos512.gear.client.model.BakedModelCache;
 import net.silentchaos512.gear.gear.material.MaterialInstance;
 import net.silentchaos512.gear.item.FragmentItem;
 
@@ -25,16 +24,11 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 public class FragmentModelOverrideList extends ItemOverrideList {
 
-    private final Cache<CacheKey, IBakedModel> bakedModelCache = CacheBuilder.newBuilder()
-            .maximumSize(1000)
-            .expireAfterWrite(5, TimeUnit.MINUTES)
-            .build();
+    private final BakedModelCache<CacheKey> bakedModelCache = new BakedModelCache<>();
 
     private final FragmentModel model;
     private final IModelConfiguration owner;
@@ -62,15 +56,14 @@ public class FragmentModelOverrideList extends ItemOverrideList {
     @Override
     public IBakedModel getOverrideModel(IBakedModel model, ItemStack stack, @Nullable ClientWorld worldIn, @Nullable LivingEntity entityIn) {
         CacheKey key = getKey(model, stack, worldIn, entityIn);
-        try {
-            return bakedModelCache.get(key, () -> getOverrideModel(stack, worldIn, entityIn));
-        } catch (ExecutionException e) {
-            e.printStackTrace();
+        IBakedModel cached = bakedModelCache.get(key, model);
+        if (cached != null) {
+            return cached;
         }
-        return model;
+        return getOverrideModel(key, model, stack);
     }
 
-    private IBakedModel getOverrideModel(ItemStack stack, @Nullable ClientWorld worldIn, @Nullable LivingEntity entityIn) {
+    private IBakedModel getOverrideModel(CacheKey key, IBakedModel parent, ItemStack stack) {
         List<MaterialLayer> layers = new ArrayList<>();
 
         IMaterial material = FragmentItem.getMaterial(stack);
@@ -81,7 +74,8 @@ public class FragmentModelOverrideList extends ItemOverrideList {
             }
         }
 
-        return model.bake(layers, owner, bakery, spriteGetter, modelTransform, this, modelLocation);
+        return bakedModelCache.bake(key, parent, () ->
+                model.bake(layers, owner, bakery, spriteGetter, modelTransform, this, modelLocation));
     }
 
     private static CacheKey getKey(IBakedModel model, ItemStack stack, @Nullable World world, @Nullable LivingEntity entity) {
@@ -1,7 +1,5 @@
 package net.silentchaos512.gear.client.model.gear;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import net.minecraft.client.renderer.model.*;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
@@ -21,6 +19,7 @@ import net.silentchaos512.gear.api.part.IPartDisplay;
 import net.silentchaos512.gear.api.part.PartDataList;
 import net.silentchaos512.gear.api.part.PartType;
 import net.silentchaos512.gear.client.material.MaterialDisplayManager;
+import net.silentchaos512.gear.client.model.BakedModelCache;
 import net.silentchaos512.gear.client.model.PartTextures;
 import net.silentchaos512.gear.config.Config;
 import net.silentchaos512.gear.gear.material.MaterialInstance;
@@ -34,17 +33,17 @@ import net.silentchaos512.utils.Color;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 public class GearModelOverrideList extends ItemOverrideList {
-    private final Cache<CacheKey, IBakedModel> bakedModelCache = CacheBuilder.newBuilder()
-            .maximumSize(1000)
-            .expireAfterWrite(5, TimeUnit.MINUTES)
-            .build();
+    private static final ResourceLocation CHARGED_PROPERTY = new ResourceLocation("charged");
+    private static final ResourceLocation FIREWORK_PROPERTY = new ResourceLocation("firework");
+
+    private static final int CHARGE_NONE = 0;
+    private static final int CHARGE_ARROW = 1;
+    private static final int CHARGE_FIREWORK = 2;
+
+    private final BakedModelCache<CacheKey> bakedModelCache = new BakedModelCache<>();
 
     private final GearModel model;
     private final IModelConfiguration owner;
@@ -77,23 +76,22 @@ public class GearModelOverrideList extends ItemOverrideList {
     public IBakedModel getOverrideModel(IBakedModel model, ItemStack stack, @Nullable ClientWorld worldIn, @Nullable LivingEntity entityIn) {
         int animationFrame = getAnimationFrame(stack, worldIn, entityIn);
         CacheKey key = getKey(model, stack, worldIn, entityIn, animationFrame);
-        try {
-            return bakedModelCache.get(key, () -> getOverrideModel(key, stack, worldIn, entityIn, animationFrame));
-        } catch (ExecutionException e) {
-            e.printStackTrace();
+        IBakedModel cached = bakedModelCache.get(key, model);
+        if (cached != null) {
+            return cached;
         }
-        return model;
+        return getOverrideModel(key, model, stack, animationFrame);
     }
 
     private static int getAnimationFrame(ItemStack stack, @Nullable ClientWorld world, @Nullable LivingEntity entity) {
         return ((ICoreItem) stack.getItem()).getAnimationFrame(stack, world, entity);
     }
 
-    private IBakedModel getOverrideModel(CacheKey key, ItemStack stack, @Nullable ClientWorld worldIn, @Nullable LivingEntity entityIn, int animationFrame) {
+    private IBakedModel getOverrideModel(CacheKey key, IBakedModel parent, ItemStack stack, int animationFrame) {
         boolean broken = GearHelper.isBroken(stack);
         if (isDebugLoggingEnabled()) {
             SilentGear.LOGGER.info("getOverrideModel for {} ({})", stack.getDisplayName().getString(), broken ? "broken" : "normal");
-            SilentGear.LOGGER.info("- model key {}", key.data);
+            SilentGear.LOGGER.info("- model key {}", GearData.getModelKey(stack, animationFrame));
         }
         List<MaterialLayer> layers = new ArrayList<>();
 
@@ -111,11 +109,16 @@ public class GearModelOverrideList extends ItemOverrideList {
         }
 
         // TODO: Make this not a special case...
-        if (stack.getItem() instanceof CoreCrossbow) {
-            getCrossbowCharge(stack, worldIn, entityIn).ifPresent(layers::add);
+        if (key.charge == CHARGE_FIREWORK) {
+            layers.add(new MaterialLayer(PartTextures.CHARGED_FIREWORK, Color.VALUE_WHITE));
+        } else if (key.charge == CHARGE_ARROW) {
+            layers.add(new MaterialLayer(PartTextures.CHARGED_ARROW, Color.VALUE_WHITE));
         }
 
-        return model.bake(stack, layers, animationFrame, "test", owner, bakery, spriteGetter, modelTransform, this, modelLocation);
+        // Layers are collected here, the stack may change before the model is baked
+        ItemStack copy = stack.copy();
+        return bakedModelCache.bake(key, parent, () ->
+                model.bake(copy, layers, animationFrame, "test", owner, bakery, spriteGetter, modelTransform, this, modelLocation));
     }
 
     private static PartDataList getPartsInRenderOrder(ItemStack stack) {
@@ -183,31 +186,30 @@ public class GearModelOverrideList extends ItemOverrideList {
                 colorStr);
     }
 
-    private static Optional<MaterialLayer> getCrossbowCharge(ItemStack stack, @Nullable ClientWorld world, @Nullable LivingEntity entity) {
+    private static int getCrossbowCharge(ItemStack stack, @Nullable ClientWorld world, @Nullable LivingEntity entity) {
         // TODO: Maybe should add an ICoreItem method to get additional layers?
-        IItemPropertyGetter chargedProperty = ItemModelsProperties.func_239417_a_(stack.getItem(), new ResourceLocation("charged"));
-        IItemPropertyGetter fireworkProperty = ItemModelsProperties.func_239417_a_(stack.getItem(), new ResourceLocation("firework"));
+        if (!(stack.getItem() instanceof CoreCrossbow)) return CHARGE_NONE;
+
+        IItemPropertyGetter chargedProperty = ItemModelsProperties.func_239417_a_(stack.getItem(), CHARGED_PROPERTY);
+        IItemPropertyGetter fireworkProperty = ItemModelsProperties.func_239417_a_(stack.getItem(), FIREWORK_PROPERTY);
 
         if (chargedProperty != null && fireworkProperty != null) {
             boolean charged = chargedProperty.call(stack, world, entity) > 0;
             boolean firework = fireworkProperty.call(stack, world, entity) > 0;
             if (charged) {
-                if (firework) {
-                    return Optional.of(new MaterialLayer(PartTextures.CHARGED_FIREWORK, Color.VALUE_WHITE));
-                }
-                return Optional.of(new MaterialLayer(PartTextures.CHARGED_ARROW, Color.VALUE_WHITE));
+                return firework ? CHARGE_FIREWORK : CHARGE_ARROW;
             }
         }
 
-        return Optional.empty();
+        return CHARGE_NONE;
     }
 
     private static CacheKey getKey(IBakedModel model, ItemStack stack, @Nullable ClientWorld world, @Nullable LivingEntity entity, int animationFrame) {
-        String brokenSuffix = GearHelper.isBroken(stack) ? "broken" : "";
-        String chargeSuffix = getCrossbowCharge(stack, world, entity)
-                .map(l -> ";" + l.getTextureId().getPath())
-                .orElse("");
-        return new CacheKey(model, GearData.getModelKey(stack, animationFrame) + brokenSuffix + chargeSuffix);
+        return new CacheKey(model,
+                GearData.getModelHash(stack),
+                animationFrame,
+                GearHelper.isBroken(stack),
+                getCrossbowCharge(stack, world, entity));
     }
 
     @Override
@@ -222,11 +224,17 @@ public class GearModelOverrideList extends ItemOverrideList {
 
     static final class CacheKey {
         final IBakedModel parent;
-        final String data;
+        final long modelHash;
+        final int animationFrame;
+        final boolean broken;
+        final int charge;
 
-        CacheKey(IBakedModel parent, String hash) {
+        CacheKey(IBakedModel parent, long modelHash, int animationFrame, boolean broken, int charge) {
             this.parent = parent;
-            this.data = hash;
+            this.modelHash = modelHash;
+            this.animationFrame = animationFrame;
+            this.broken = broken;
+            this.charge = charge;
         }
 
         @Override
@@ -234,12 +242,21 @@ public class GearModelOverrideList extends ItemOverrideList {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             CacheKey cacheKey = (CacheKey) o;
-            return parent == cacheKey.parent && Objects.equals(data, cacheKey.data);
+            return parent == cacheKey.parent
+                    && modelHash == cacheKey.modelHash
+                    && animationFrame == cacheKey.animationFrame
+                    && broken == cacheKey.broken
+                    && charge == cacheKey.charge;
         }
 
         @Override
         public int hashCode() {
-            return 31 * parent.hashCode() + data.hashCode();
+            int result = parent.hashCode();
+            result = 31 * result + Long.hashCode(modelHash);
+            result = 31 * result + animationFrame;
+            result = 31 * result + (broken ? 1 : 0);
+            result = 31 * result + charge;
+            return result;
         }
     }
 }
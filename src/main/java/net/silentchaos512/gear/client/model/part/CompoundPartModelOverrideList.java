@@ -1,7 +1,5 @@
 package net.silentchaos512.gear.client.model.part;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import net.minecraft.client.renderer.model.*;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
@@ -15,6 +13,7 @@ import net.silentchaos512.gear.SilentGear;
 import net.silentchaos512.gear.api.material.IMaterialDisplay;
 import net.silentchaos512.gear.api.material.MaterialLayer;
 import net.silentchaos512.gear.client.material.MaterialDisplayManager;
+import net.silentchaos512.gear.client.model.BakedModelCache;
 import net.silentchaos512.gear.gear.material.MaterialInstance;
 import net.silentchaos512.gear.item.CompoundPartItem;
 import net.silentchaos512.gear.gear.part.PartData;
@@ -23,15 +22,10 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 public class CompoundPartModelOverrideList extends ItemOverrideList {
-    private final Cache<CacheKey, IBakedModel> bakedModelCache = CacheBuilder.newBuilder()
-            .maximumSize(1000)
-            .expireAfterWrite(5, TimeUnit.MINUTES)
-            .build();
+    private final BakedModelCache<CacheKey> bakedModelCache = new BakedModelCache<>();
 
     private final CompoundPartModel model;
     private final IModelConfiguration owner;
@@ -59,15 +53,14 @@ public class CompoundPartModelOverrideList extends ItemOverrideList {
     @Override
     public IBakedModel getOverrideModel(IBakedModel model, ItemStack stack, @Nullable ClientWorld worldIn, @Nullable LivingEntity entityIn) {
         CacheKey key = getKey(model, stack, worldIn, entityIn);
-        try {
-            return bakedModelCache.get(key, () -> getOverrideModel(stack, worldIn, entityIn));
-        } catch (ExecutionException e) {
-            e.printStackTrace();
+        IBakedModel cached = bakedModelCache.get(key, model);
+        if (cached != null) {
+            return cached;
         }
-        return model;
+        return getOverrideModel(key, model, stack);
     }
 
-    private IBakedModel getOverrideModel(ItemStack stack, @Nullable ClientWorld worldIn, @Nullable LivingEntity entityIn) {
+    private IBakedModel getOverrideModel(CacheKey key, IBakedModel parent, ItemStack stack) {
         List<MaterialLayer> layers = new ArrayList<>();
 
         PartData part = PartData.from(stack);
@@ -76,7 +69,8 @@ public class CompoundPartModelOverrideList extends ItemOverrideList {
             addWithBlendedColor(layers, part, primaryMaterial, stack);
         }
 
-        return model.bake(layers, "test", owner, bakery, spriteGetter, modelTransform, this, modelLocation);
+        return bakedModelCache.bake(key, parent, () ->
+                model.bake(layers, "test", owner, bakery, spriteGetter, modelTransform, this, modelLocation));
     }
 
     @SuppressWarnings("TypeMayBeWeakened")
@@ -63,6 +63,18 @@ public final class GearClientHelper {
 
         if (!(stack.getItem() instanceof ICoreItem)) return;
 
+        // Some lines are inserted right after the item name, so the tooltip can only be cached if
+        // the name is all it contains so far
+        if (tooltip.size() != 1) {
+            addGearInformation(stack, tooltip, flag);
+            return;
+        }
+
+        int flags = TooltipCache.flags(flag.advanced, flag.ctrlDown, flag.altDown, flag.shiftDown, flag.showStats, flag.showConstruction);
+        TooltipCache.addLines("gear", stack, flags, tooltip, list -> addGearInformation(stack, list, flag));
+    }
+
+    private static void addGearInformation(ItemStack stack, List<ITextComponent> tooltip, GearTooltipFlag flag) {
         ICoreItem item = (ICoreItem) stack.getItem();
 
         if (GearHelper.isBroken(stack)) {
@@ -0,0 +1,182 @@
+package net.silentchaos512.gear.client.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.text.ITextComponent;
+import net.silentchaos512.gear.client.KeyTracker;
+import net.silentchaos512.gear.gear.material.MaterialManager;
+import net.silentchaos512.gear.gear.part.PartManager;
+import net.silentchaos512.gear.gear.trait.TraitManager;
+import net.silentchaos512.lib.event.ClientTicks;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Caches tooltip lines added by Silent Gear, so hovering an item (or JEI scrolling past it) does
+ * not parse its materials, parts, and stats every frame. Lines are keyed on the item, its NBT, the
+ * tooltip flags, the state of every key which changes tooltips, the material cycle index, and the
+ * current second (some lines cycle through lists over time).
+ * <p>
+ * Everything is discarded when materials, parts, or traits are reloaded or synced, and on resource
+ * reload (language changes).
+ */
+public final class TooltipCache {
+    private static final Cache<Key, List<ITextComponent>> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(1024)
+            .expireAfterAccess(10, TimeUnit.SECONDS)
+            .build();
+
+    // Registry collections are replaced on every reload, so their identity works as a version
+    private static Collection<?> materials;
+    private static Collection<?> parts;
+    private static Collection<?> traits;
+
+    private TooltipCache() {}
+
+    /**
+     * Adds tooltip lines for the item, running {@code appender} only if the lines are not cached.
+     * The appender must only add lines at or after the current end of the tooltip; anything before
+     * that is not part of the cached lines.
+     *
+     * @param section  Identifies the code adding the lines, in case more than one caller caches
+     *                 lines for the same item
+     * @param stack    The item
+     * @param flags    Any flags (besides key state) the lines depend on, like {@link
+     *                 net.minecraft.client.util.ITooltipFlag#isAdvanced()}
+     * @param tooltip  The tooltip
+     * @param appender Adds the lines to the tooltip
+     */
+    public static void addLines(String section, ItemStack stack, int flags, List<ITextComponent> tooltip, Consumer<List<ITextComponent>> appender) {
+        validate();
+
+        Key key = new Key(section, stack, flags);
+        List<ITextComponent> lines = CACHE.getIfPresent(key);
+        if (lines != null) {
+            tooltip.addAll(lines);
+            return;
+        }
+
+        int start = tooltip.size();
+        appender.accept(tooltip);
+        CACHE.put(key.copyTag(), ImmutableList.copyOf(tooltip.subList(start, tooltip.size())));
+    }
+
+    /**
+     * Packs boolean flags into an int, for use with {@link #addLines}.
+     *
+     * @param values The flags
+     * @return The packed flags
+     */
+    public static int flags(boolean... values) {
+        int ret = 0;
+        for (int i = 0; i < values.length; ++i) {
+            if (values[i]) {
+                ret |= 1 << i;
+            }
+        }
+        return ret;
+    }
+
+    public static void invalidateAll() {
+        CACHE.invalidateAll();
+    }
+
+    private static void validate() {
+        if (materials != MaterialManager.getValues()
+                || parts != PartManager.getValues()
+                || traits != TraitManager.getValues()) {
+            invalidateAll();
+            materials = MaterialManager.getValues();
+            parts = PartManager.getValues();
+            traits = TraitManager.getValues();
+        }
+    }
+
+    private static int getKeyState() {
+        return flags(KeyTracker.isControlDown(),
+                KeyTracker.isAltDown(),
+                KeyTracker.isShiftDown(),
+                KeyTracker.isDisplayStatsDown(),
+                KeyTracker.isDisplayTraitsDown(),
+                KeyTracker.isDisplayConstructionDown());
+    }
+
+    private static final class Key {
+        private final String section;
+        private final Item item;
+        @Nullable private final CompoundNBT tag;
+        private final int flags;
+        private final int keyState;
+        private final int materialCycle;
+        private final int second;
+        private final int hash;
+
+        private Key(String section, ItemStack stack, int flags) {
+            this(section,
+                    stack.getItem(),
+                    stack.getTag(),
+                    flags,
+                    getKeyState(),
+                    KeyTracker.getMaterialCycleCount(),
+                    ClientTicks.ticksInGame() / 20);
+        }
+
+        private Key(String section, Item item, @Nullable CompoundNBT tag, int flags, int keyState, int materialCycle, int second) {
+            this.section = section;
+            this.item = item;
+            this.tag = tag;
+            this.flags = flags;
+            this.keyState = keyState;
+            this.materialCycle = materialCycle;
+            this.second = second;
+
+            int result = section.hashCode();
+            result = 31 * result + item.hashCode();
+            result = 31 * result + Objects.hashCode(tag);
+            result = 31 * result + flags;
+            result = 31 * result + keyState;
+            result = 31 * result + materialCycle;
+            result = 31 * result + second;
+            this.hash = result;
+        }
+
+        /**
+         * Copies the key, with its own copy of the tag. Stored keys must not share the stack's
+         * tag, which could be modified later.
+         *
+         * @return A copy of the key
+         */
+        Key copyTag() {
+            return new Key(section, item, tag != null ? tag.copy() : null, flags, keyState, materialCycle, second);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key other = (Key) o;
+            return hash == other.hash
+                    && section.equals(other.section)
+                    && item == other.item
+                    && flags == other.flags
+                    && keyState == other.keyState
+                    && materialCycle == other.materialCycle
+                    && second == other.second
+                    && Objects.equals(tag, other.tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
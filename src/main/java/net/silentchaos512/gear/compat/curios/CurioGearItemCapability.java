@@ -106,9 +106,11 @@ public class CurioGearItemCapability {
 
         @Override
         public Multimap<Attribute, AttributeModifier> getAttributeModifiers(String identifier) {
-            Multimap<Attribute, AttributeModifier> multimap = GearHelper.getAttributeModifiers(identifier, stack, HashMultimap.create(), false);
-            extraAttributes.accept(multimap);
-            return multimap;
+            return GearHelper.getCachedAttributeModifiers(stack, "curio/" + identifier, () -> {
+                Multimap<Attribute, AttributeModifier> multimap = GearHelper.getAttributeModifiers(identifier, stack, HashMultimap.create(), false);
+                extraAttributes.accept(multimap);
+                return multimap;
+            });
         }
 
         @Override
@@ -4,6 +4,7 @@ import com.google.common.collect.Multimap;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.attributes.Attribute;
 import net.minecraft.entity.ai.attributes.AttributeModifier;
+import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.common.util.LazyOptional;
@@ -14,9 +15,11 @@ import net.silentchaos512.gear.api.item.ICoreItem;
 import net.silentchaos512.gear.api.traits.ITrait;
 import net.silentchaos512.gear.item.gear.CoreElytra;
 import net.silentchaos512.gear.util.DataResource;
+import net.silentchaos512.gear.util.EquippedTraitIndex;
 import net.silentchaos512.gear.util.TraitHelper;
 import top.theillusivec4.curios.api.CuriosApi;
 import top.theillusivec4.curios.api.SlotTypePreset;
+import top.theillusivec4.curios.api.event.CurioChangeEvent;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -42,6 +45,12 @@ public final class CuriosCompat {
         return CurioGearItemCapability.createElytraProvider(stack, item);
     }
 
+    public static void onCurioChange(CurioChangeEvent event) {
+        if (event.getEntityLiving() instanceof PlayerEntity && !event.getEntityLiving().world.isRemote) {
+            EquippedTraitIndex.markDirty((PlayerEntity) event.getEntityLiving());
+        }
+    }
+
     public static int getHighestTraitLevel(LivingEntity entity, DataResource<ITrait> trait) {
         LazyOptional<IItemHandlerModifiable> lazy = CuriosApi.getCuriosHelper().getEquippedCurios(entity);
         int max = 0;
@@ -356,6 +356,7 @@ public final class Config {
 
         public static final ForgeConfigSpec.BooleanValue allowEnchantedEffect;
         public static final ForgeConfigSpec.BooleanValue playKachinkSound;
+        public static final ForgeConfigSpec.BooleanValue asyncModelBaking;
         //public static final ForgeConfigSpec.BooleanValue useLiteModels;
 
         static {
@@ -369,6 +370,11 @@ public final class Config {
             playKachinkSound = builder
                     .comment("Plays a sped-up 'item breaking' sound when an item's stats are recalculated due to durability loss")
                     .define("gear.playKachinkSound", true);
+            asyncModelBaking = builder
+                    .comment("Bake gear, part, and fragment models on a worker thread instead of the render thread.",
+                            "Items with a model that is not ready yet are drawn with the last model baked for that item, or not at all.",
+                            "This can reduce stuttering when many new items are displayed at once (opening JEI, large storage systems)")
+                    .define("gear.asyncModelBaking", false);
             /*useLiteModels = builder
                     .comment("Use 'lite' gear models. These should be easier on some systems, but do not allow unique textures for different materials.",
                             "Currently, this option has no effect, as the normal model system is not working yet (lite models are used)")
@@ -7,6 +7,7 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.JSONUtils;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.common.crafting.IIngredientSerializer;
+import net.minecraftforge.common.util.Lazy;
 import net.silentchaos512.gear.SilentGear;
 import net.silentchaos512.gear.api.item.GearType;
 import net.silentchaos512.gear.api.material.IMaterial;
@@ -15,6 +16,7 @@ import net.silentchaos512.gear.api.part.PartType;
 import net.silentchaos512.gear.gear.material.MaterialCategories;
 import net.silentchaos512.gear.gear.material.MaterialInstance;
 import net.silentchaos512.gear.gear.material.MaterialManager;
+import net.silentchaos512.gear.gear.material.PartMaterial;
 
 import javax.annotation.Nullable;
 import java.util.*;
@@ -26,6 +28,8 @@ public final class PartMaterialIngredient extends Ingredient implements IPartIng
     private final int minTier;
     private final int maxTier;
     private final Set<IMaterialCategory> categories = new HashSet<>();
+    // Built lazily, replaced when materials are reloaded or synced
+    @Nullable private volatile MaterialCache materialCache;
 
     private PartMaterialIngredient(PartType partType, GearType gearType, int minTier, int maxTier) {
         super(Stream.of());
@@ -73,13 +77,20 @@ public final class PartMaterialIngredient extends Ingredient implements IPartIng
     @Override
     public boolean test(@Nullable ItemStack stack) {
         if (stack == null || stack.isEmpty()) return false;
-        MaterialInstance material = MaterialInstance.from(stack);
+        IMaterial material = MaterialManager.from(stack);
         if (material == null) return false;
 
-        int tier = material.getTier(this.partType);
+        Boolean allowed = getMaterialCache().allowedMaterials.get(material);
+        if (allowed != null) {
+            return allowed;
+        }
+        return materialMatches(MaterialInstance.of(material, stack));
+    }
+
+    private boolean materialMatches(MaterialInstance material) {
         return material.get().isCraftingAllowed(material, partType, gearType)
                 && (categories.isEmpty() || material.hasAnyCategory(categories))
-                && tierMatches(tier);
+                && tierMatches(material.getTier(this.partType));
     }
 
     private boolean tierMatches(int tier) {
@@ -88,18 +99,24 @@ public final class PartMaterialIngredient extends Ingredient implements IPartIng
 
     @Override
     public ItemStack[] getMatchingStacks() {
-        Collection<IMaterial> materials = MaterialManager.getValues();
-        if (!materials.isEmpty()) {
-            return materials.stream()
-                    .map(MaterialInstance::of)
-                    .filter(mat -> mat.get().isCraftingAllowed(mat, partType, gearType))
-                    .filter(mat -> categories.isEmpty() || mat.hasAnyCategory(categories))
-                    .filter(mat -> tierMatches(mat.getTier(this.partType)))
-                    .flatMap(mat -> Stream.of(mat.get().getIngredient().getMatchingStacks()))
-                    .filter(stack -> !stack.isEmpty())
-                    .toArray(ItemStack[]::new);
+        return getMaterialCache().matchingStacks.get();
+    }
+
+    private MaterialCache getMaterialCache() {
+        List<IMaterial> materials = MaterialManager.getValues();
+        MaterialCache cache = this.materialCache;
+        if (cache == null || cache.materials != materials) {
+            cache = new MaterialCache(materials);
+            this.materialCache = cache;
         }
-        return super.getMatchingStacks();
+        return cache;
+    }
+
+    @Override
+    protected void invalidate() {
+        // Called when tags are reloaded, matching stacks may have changed
+        super.invalidate();
+        this.materialCache = null;
     }
 
     @Override
@@ -139,6 +156,29 @@ public final class PartMaterialIngredient extends Ingredient implements IPartIng
         return json;
     }
 
+    private final class MaterialCache {
+        private final List<IMaterial> materials;
+        // Results of test for materials which do not depend on the crafting item. Compound
+        // materials get their categories and stats from the item, so those are not included.
+        private final Map<IMaterial, Boolean> allowedMaterials = new HashMap<>();
+        private final Lazy<ItemStack[]> matchingStacks;
+
+        private MaterialCache(List<IMaterial> materials) {
+            this.materials = materials;
+            for (IMaterial material : materials) {
+                if (material instanceof PartMaterial) {
+                    this.allowedMaterials.put(material, materialMatches(MaterialInstance.of(material)));
+                }
+            }
+            this.matchingStacks = Lazy.concurrentOf(() -> materials.stream()
+                    .map(MaterialInstance::of)
+                    .filter(PartMaterialIngredient.this::materialMatches)
+                    .flatMap(mat -> Stream.of(mat.get().getIngredient().getMatchingStacks()))
+                    .filter(stack -> !stack.isEmpty())
+                    .toArray(ItemStack[]::new));
+        }
+    }
+
     public static final class Serializer implements IIngredientSerializer<PartMaterialIngredient> {
         public static final Serializer INSTANCE = new Serializer();
         public static final ResourceLocation NAME = SilentGear.getId("material");
@@ -0,0 +1,158 @@
+package net.silentchaos512.gear.crafting.recipe;
+
+import net.minecraft.inventory.CraftingInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.silentchaos512.gear.api.item.ICoreItem;
+import net.silentchaos512.gear.gear.material.MaterialManager;
+import net.silentchaos512.gear.gear.part.PartData;
+import net.silentchaos512.gear.gear.part.PartManager;
+import net.silentchaos512.gear.gear.trait.TraitManager;
+import net.silentchaos512.gear.util.GearData;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Remembers parts parsed from a crafting grid, and the gear constructed from them, until the
+ * contents of the grid change. Whenever the grid changes, the recipe manager calls {@code matches}
+ * on every dynamic recipe, then {@code getCraftingResult} on the one that matched. Autocrafters
+ * repeat this constantly, and every result is a full stat recalculation.
+ * <p>
+ * Contents are compared by item, count, and NBT hash. Everything is discarded if materials, parts,
+ * or traits have been reloaded since the cache was created.
+ */
+final class CraftingGridCache {
+    private static final Map<CraftingInventory, CraftingGridCache> CACHES = new WeakHashMap<>();
+
+    private final ItemStack[] stacks;
+    private final Item[] items;
+    private final int[] counts;
+    private final int[] tagHashes;
+    // Registry collections are replaced on every reload, so their identity works as a version
+    private final Collection<?> materials;
+    private final Collection<?> parts;
+    private final Collection<?> traits;
+
+    private final PartData[] partsBySlot;
+    private final boolean[] partParsed;
+    private final Map<Object, Collection<PartData>> partsByRecipe = new HashMap<>();
+    private final Map<Object, ItemStack> resultsByRecipe = new HashMap<>();
+
+    private CraftingGridCache(CraftingInventory inv) {
+        int size = inv.getSizeInventory();
+        this.stacks = new ItemStack[size];
+        this.partsBySlot = new PartData[size];
+        this.partParsed = new boolean[size];
+        this.items = new Item[size];
+        this.counts = new int[size];
+        this.tagHashes = new int[size];
+        for (int i = 0; i < size; ++i) {
+            ItemStack stack = inv.getStackInSlot(i);
+            this.stacks[i] = stack;
+            this.items[i] = stack.getItem();
+            this.counts[i] = stack.getCount();
+            this.tagHashes[i] = Objects.hashCode(stack.getTag());
+        }
+        this.materials = MaterialManager.getValues();
+        this.parts = PartManager.getValues();
+        this.traits = TraitManager.getValues();
+    }
+
+    /**
+     * Gets the cache for the crafting grid, replacing it first if the contents have changed.
+     *
+     * @param inv The crafting grid
+     * @return The cache for the current contents of the grid
+     */
+    static CraftingGridCache get(CraftingInventory inv) {
+        synchronized (CACHES) {
+            CraftingGridCache cache = CACHES.get(inv);
+            if (cache == null || !cache.isValidFor(inv)) {
+                cache = new CraftingGridCache(inv);
+                CACHES.put(inv, cache);
+            }
+            return cache;
+        }
+    }
+
+    private boolean isValidFor(CraftingInventory inv) {
+        if (this.materials != MaterialManager.getValues()
+                || this.parts != PartManager.getValues()
+                || this.traits != TraitManager.getValues()
+                || this.items.length != inv.getSizeInventory()) {
+            return false;
+        }
+
+        for (int i = 0; i < this.items.length; ++i) {
+            ItemStack stack = inv.getStackInSlot(i);
+            if (stack.getItem() != this.items[i]
+                    || stack.getCount() != this.counts[i]
+                    || Objects.hashCode(stack.getTag()) != this.tagHashes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equivalent to {@link PartData#from(ItemStack)}, but only parses each stack in the grid
+     * once. Stacks which are not in the grid are parsed every time.
+     *
+     * @param stack A stack from the crafting grid
+     * @return The part data, or null if the stack is not a part
+     */
+    @Nullable
+    synchronized PartData getPart(ItemStack stack) {
+        for (int i = 0; i < this.stacks.length; ++i) {
+            if (this.stacks[i] == stack) {
+                if (!this.partParsed[i]) {
+                    this.partsBySlot[i] = PartData.from(stack);
+                    this.partParsed[i] = true;
+                }
+                return this.partsBySlot[i];
+            }
+        }
+        return PartData.from(stack);
+    }
+
+    /**
+     * Gets the parts a recipe parsed from the grid, parsing them only on the first call.
+     *
+     * @param recipe  The recipe
+     * @param factory Parses the parts
+     * @return An unmodifiable collection of the parts
+     */
+    synchronized Collection<PartData> getParts(Object recipe, Supplier<Collection<PartData>> factory) {
+        Collection<PartData> ret = this.partsByRecipe.get(recipe);
+        if (ret == null) {
+            ret = Collections.unmodifiableList(new ArrayList<>(factory.get()));
+            this.partsByRecipe.put(recipe, ret);
+        }
+        return ret;
+    }
+
+    /**
+     * Gets a copy of the item a recipe crafts from the grid, constructing it only on the first
+     * call.
+     *
+     * @param recipe  The recipe
+     * @param factory Constructs the result
+     * @return A copy of the result, with its own UUID if it is gear
+     */
+    synchronized ItemStack getResult(Object recipe, Supplier<ItemStack> factory) {
+        ItemStack ret = this.resultsByRecipe.get(recipe);
+        if (ret == null) {
+            // Not using computeIfAbsent, the factory will usually call getParts
+            ret = factory.get();
+            this.resultsByRecipe.put(recipe, ret);
+        }
+        ItemStack copy = ret.copy();
+        if (copy.getItem() instanceof ICoreItem) {
+            // Every crafted item needs a unique ID, even when the grid has not changed
+            GearData.regenerateUUID(copy);
+        }
+        return copy;
+    }
+}
@@ -33,10 +33,11 @@ public class GearPartSwapRecipe extends SpecialRecipe {
         Collection<ItemStack> others = list.allMatches(stack -> !(stack.getItem() instanceof ICoreItem));
         if (others.isEmpty()) return false;
 
+        CraftingGridCache cache = CraftingGridCache.get(inv);
         Map<PartType, Integer> typeCounts = new HashMap<>();
 
         for (ItemStack stack : others) {
-            PartData part = PartData.from(stack);
+            PartData part = cache.getPart(stack);
             if (part == null) return false;
 
             // Only required part types, and no duplicates
@@ -51,6 +52,11 @@ public class GearPartSwapRecipe extends SpecialRecipe {
 
     @Override
     public ItemStack getCraftingResult(CraftingInventory inv) {
+        CraftingGridCache cache = CraftingGridCache.get(inv);
+        return cache.getResult(this, () -> swapParts(inv, cache));
+    }
+
+    private static ItemStack swapParts(CraftingInventory inv, CraftingGridCache cache) {
         StackList list = StackList.from(inv);
         ItemStack gear = list.uniqueOfType(ICoreItem.class);
         if (gear.isEmpty()) return ItemStack.EMPTY;
@@ -62,7 +68,7 @@ public class GearPartSwapRecipe extends SpecialRecipe {
         PartDataList parts = GearData.getConstructionParts(result);
 
         for (ItemStack stack : others) {
-            PartData part = PartData.from(stack);
+            PartData part = cache.getPart(stack);
             if (part == null) return ItemStack.EMPTY;
 
             PartType type = part.getType();
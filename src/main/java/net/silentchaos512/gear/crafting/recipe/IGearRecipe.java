@@ -1,5 +1,6 @@
 package net.silentchaos512.gear.crafting.recipe;
 
+import net.minecraft.inventory.CraftingInventory;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.silentchaos512.gear.api.item.GearType;
@@ -13,11 +14,20 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 interface IGearRecipe {
     ICoreItem getOutputItem();
 
     default Collection<PartData> getParts(IInventory inv) {
+        if (inv instanceof CraftingInventory) {
+            CraftingGridCache cache = CraftingGridCache.get((CraftingInventory) inv);
+            return cache.getParts(this, () -> parseParts(inv, cache::getPart));
+        }
+        return parseParts(inv, PartData::from);
+    }
+
+    default Collection<PartData> parseParts(IInventory inv, Function<ItemStack, PartData> partGetter) {
         List<MaterialInstance> materials = new ArrayList<>();
         List<PartData> parts = new ArrayList<>();
 
@@ -28,7 +38,7 @@ interface IGearRecipe {
                 if (mat != null) {
                     materials.add(mat);
                 } else {
-                    PartData part = PartData.from(stack);
+                    PartData part = partGetter.apply(stack);
                     if (part != null) {
                         parts.add(part);
                     }
@@ -56,7 +56,7 @@ public final class ShapedGearRecipe extends ExtendedShapedRecipe implements IGea
 
     @Override
     public ItemStack getCraftingResult(CraftingInventory inv) {
-        return item.construct(getParts(inv));
+        return CraftingGridCache.get(inv).getResult(this, () -> item.construct(getParts(inv)));
     }
 
     @Override
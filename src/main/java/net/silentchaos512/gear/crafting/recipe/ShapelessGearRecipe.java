@@ -56,7 +56,7 @@ public final class ShapelessGearRecipe extends ExtendedShapelessRecipe implement
 
     @Override
     public ItemStack getCraftingResult(CraftingInventory inv) {
-        return item.construct(getParts(inv));
+        return CraftingGridCache.get(inv).getResult(this, () -> item.construct(getParts(inv)));
     }
 
     @Override
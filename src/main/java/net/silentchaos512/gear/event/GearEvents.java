@@ -72,6 +72,7 @@ import net.silentchaos512.gear.api.item.ICoreTool;
 import net.silentchaos512.gear.api.part.PartDataList;
 import net.silentchaos512.gear.api.part.PartType;
 import net.silentchaos512.gear.api.traits.TraitActionContext;
+import net.silentchaos512.gear.api.traits.TraitHook;
 import net.silentchaos512.gear.gear.material.MaterialInstance;
 import net.silentchaos512.gear.gear.part.CompoundPart;
 import net.silentchaos512.gear.gear.part.PartData;
@@ -125,7 +126,7 @@ public final class GearEvents {
         if (!(weapon.getItem() instanceof ICoreTool)) return;
 
         final float baseDamage = event.getAmount();
-        final float newDamage = TraitHelper.activateTraits(weapon, baseDamage, (trait, level, value) ->
+        final float newDamage = TraitHelper.activateTraits(weapon, baseDamage, TraitHook.ATTACK_ENTITY, (trait, level, value) ->
                 trait.onAttackEntity(new TraitActionContext(player, level, weapon), attacked, value));
 
         if (Math.abs(newDamage - baseDamage) > 0.0001f) {
@@ -374,8 +375,9 @@ public final class GearEvents {
     @SubscribeEvent
     public static void onPlayerTick(TickEvent.PlayerTickEvent event) {
         if (!event.player.world.isRemote && event.phase == TickEvent.Phase.START) {
-            int magnetic = Math.max(TraitHelper.getHighestLevelEitherHand(event.player, Const.Traits.MAGNETIC),
-                    TraitHelper.getHighestLevelCurio(event.player, Const.Traits.MAGNETIC));
+            EquippedTraitIndex traits = EquippedTraitIndex.get(event.player);
+            int magnetic = Math.max(traits.getHighestLevelEitherHand(Const.Traits.MAGNETIC),
+                    traits.getLevel(Const.Traits.MAGNETIC, EquippedTraitIndex.SlotGroup.CURIO));
 
             if (magnetic > 0) {
                 tickMagnetic(event.player, magnetic);
@@ -383,13 +385,13 @@ public final class GearEvents {
 
             // Turtle trait
             // TODO: May want to add player conditions to wielder effect traits, for more control and possibilities for pack devs.
-            if (!event.player.areEyesInFluid(FluidTags.WATER) && TraitHelper.hasTrait(event.player.getItemStackFromSlot(EquipmentSlotType.HEAD), Const.Traits.TURTLE)) {
+            if (!event.player.areEyesInFluid(FluidTags.WATER) && traits.hasTrait(Const.Traits.TURTLE, EquippedTraitIndex.SlotGroup.HEAD)) {
                 // Vanilla duration is 200, but that causes flickering numbers/icon
                 event.player.addPotionEffect(new EffectInstance(Effects.WATER_BREATHING, 210, 0, false, false, true));
             }
 
             // Void Ward trait
-            if (event.player.getPosY() < -64 && TraitHelper.hasTraitArmor(event.player, Const.Traits.VOID_WARD)) {
+            if (event.player.getPosY() < -64 && traits.hasTraitArmor(Const.Traits.VOID_WARD)) {
                 // A small boost to get the player out of the void, then levitation and slow falling
                 // to allow them to navigate back to safety
                 event.player.addVelocity(0, 10, 0);
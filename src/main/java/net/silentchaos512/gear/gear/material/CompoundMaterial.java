@@ -1,5 +1,8 @@
 package net.silentchaos512.gear.gear.material;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.gson.*;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
@@ -14,12 +17,14 @@ import net.silentchaos512.gear.SilentGear;
 import net.silentchaos512.gear.api.event.GetMaterialStatsEvent;
 import net.silentchaos512.gear.api.item.GearType;
 import net.silentchaos512.gear.api.material.*;
+import net.silentchaos512.gear.api.part.MaterialGrade;
 import net.silentchaos512.gear.api.part.PartType;
 import net.silentchaos512.gear.api.stats.ItemStat;
 import net.silentchaos512.gear.api.stats.StatInstance;
 import net.silentchaos512.gear.api.traits.TraitInstance;
 import net.silentchaos512.gear.api.util.StatGearKey;
 import net.silentchaos512.gear.client.material.MaterialDisplayManager;
+import net.silentchaos512.gear.gear.trait.TraitManager;
 import net.silentchaos512.gear.item.CompoundMaterialItem;
 import net.silentchaos512.gear.network.SyncMaterialCraftingItemsPacket;
 import net.silentchaos512.gear.util.ModResourceLocation;
@@ -140,8 +145,29 @@ public class CompoundMaterial implements IMaterial {
         return getPartTypes(material).contains(partType);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Results are cached by composition (see {@link StatCache}), so the returned collection is
+     * immutable.
+     */
     @Override
     public Collection<StatInstance> getStatModifiers(IMaterialInstance material, PartType partType, StatGearKey key, ItemStack gear) {
+        StatCacheKey cacheKey = StatCacheKey.of(this, material, partType, key);
+        if (cacheKey == null) {
+            return computeStatModifiers(material, partType, key, gear);
+        }
+
+        StatCache cache = StatCache.get();
+        List<StatInstance> ret = cache.results.getIfPresent(cacheKey);
+        if (ret == null) {
+            ret = ImmutableList.copyOf(computeStatModifiers(material, partType, key, gear));
+            cache.results.put(cacheKey, ret);
+        }
+        return ret;
+    }
+
+    private Collection<StatInstance> computeStatModifiers(IMaterialInstance material, PartType partType, StatGearKey key, ItemStack gear) {
         // Get the materials and all the stat modifiers they provide for this stat
         Collection<MaterialInstance> materials = getSubMaterials(material);
         List<StatInstance> statMods = materials.stream()
@@ -204,6 +230,115 @@ public class CompoundMaterial implements IMaterial {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Stat modifiers of alloys, keyed by composition. Two instances of a compound material with
+     * the same sub-materials and grades always produce the same modifiers, so there is no need to
+     * average the sub-material stats and apply synergy every time gear is recalculated. Discarded
+     * when materials or traits are reloaded, since sub-material stats and synergy depend on both.
+     */
+    private static final class StatCache {
+        private static volatile StatCache instance = new StatCache();
+
+        // Registry collections are replaced on every reload, so their identity works as a version
+        private final Collection<?> materials = MaterialManager.getValues();
+        private final Collection<?> traits = TraitManager.getValues();
+        private final Cache<StatCacheKey, List<StatInstance>> results = CacheBuilder.newBuilder()
+                .maximumSize(4096)
+                .build();
+
+        static StatCache get() {
+            StatCache cache = instance;
+            if (cache.materials != MaterialManager.getValues() || cache.traits != TraitManager.getValues()) {
+                cache = new StatCache();
+                instance = cache;
+            }
+            return cache;
+        }
+    }
+
+    private static final class StatCacheKey {
+        private final CompoundMaterial compound;
+        private final MaterialGrade grade;
+        private final IMaterial[] subMaterials;
+        private final MaterialGrade[] subGrades;
+        private final PartType partType;
+        private final StatGearKey key;
+        private final int hash;
+
+        private StatCacheKey(CompoundMaterial compound, MaterialGrade grade, IMaterial[] subMaterials, MaterialGrade[] subGrades, PartType partType, StatGearKey key) {
+            this.compound = compound;
+            this.grade = grade;
+            this.subMaterials = subMaterials;
+            this.subGrades = subGrades;
+            this.partType = partType;
+            this.key = key;
+
+            int result = System.identityHashCode(compound);
+            result = 31 * result + grade.hashCode();
+            for (int i = 0; i < subMaterials.length; ++i) {
+                result = 31 * result + System.identityHashCode(subMaterials[i]);
+                result = 31 * result + subGrades[i].hashCode();
+            }
+            result = 31 * result + partType.hashCode();
+            result = 31 * result + key.hashCode();
+            this.hash = result;
+        }
+
+        /**
+         * Creates a key for the material instance, if its stats can be cached. Only the grades and
+         * order of sub-materials matter, so counts are covered by duplicate entries.
+         *
+         * @return The key, or null if the instance is not a {@link MaterialInstance} or contains
+         * non-simple sub-materials (which may have their own sub-materials)
+         */
+        @Nullable
+        static StatCacheKey of(CompoundMaterial compound, IMaterialInstance material, PartType partType, StatGearKey key) {
+            if (!(material instanceof MaterialInstance)) {
+                return null;
+            }
+
+            List<MaterialInstance> subs = getSubMaterials(material);
+            IMaterial[] subMaterials = new IMaterial[subs.size()];
+            MaterialGrade[] subGrades = new MaterialGrade[subs.size()];
+            for (int i = 0; i < subs.size(); ++i) {
+                MaterialInstance sub = subs.get(i);
+                if (!sub.get().isSimple()) {
+                    return null;
+                }
+                subMaterials[i] = sub.get();
+                subGrades[i] = sub.getGrade();
+            }
+
+            return new StatCacheKey(compound, ((MaterialInstance) material).getGrade(), subMaterials, subGrades, partType, key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            StatCacheKey other = (StatCacheKey) o;
+            if (hash != other.hash
+                    || compound != other.compound
+                    || grade != other.grade
+                    || partType != other.partType
+                    || !key.equals(other.key)
+                    || subMaterials.length != other.subMaterials.length) {
+                return false;
+            }
+            for (int i = 0; i < subMaterials.length; ++i) {
+                if (subMaterials[i] != other.subMaterials[i] || subGrades[i] != other.subGrades[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     private static StatInstance compressModifiers(Collection<StatInstance> mods, StatInstance.Operation operation) {
         // We do NOT want to average together max modifiers...
         if (operation == StatInstance.Operation.MAX) {
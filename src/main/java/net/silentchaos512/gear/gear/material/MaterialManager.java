@@ -1,9 +1,13 @@
 package net.silentchaos512.gear.gear.material;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Multimap;
 import com.google.gson.*;
+import com.mojang.datafixers.util.Pair;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.resources.IResource;
@@ -20,6 +24,8 @@ import net.minecraftforge.fml.network.NetworkEvent;
 import net.silentchaos512.gear.SilentGear;
 import net.silentchaos512.gear.api.material.IMaterial;
 import net.silentchaos512.gear.network.SyncMaterialsPacket;
+import net.silentchaos512.gear.util.DataFileLoader;
+import net.silentchaos512.gear.util.IngredientIndex;
 import net.silentchaos512.gear.util.TextUtil;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.Marker;
@@ -40,7 +46,8 @@ public class MaterialManager implements IResourceManagerReloadListener {
     public static final Marker MARKER = MarkerManager.getMarker("MaterialManager");
 
     private static final String DATA_PATH = "silentgear_materials";
-    private static final Map<ResourceLocation, IMaterial> MAP = Collections.synchronizedMap(new LinkedHashMap<>());
+    // Replaced as a whole on reload or sync, so readers never need to lock
+    private static volatile Registry registry = new Registry(Collections.emptyMap());
     private static final Collection<String> ERROR_LIST = new ArrayList<>();
     private static final Collection<String> INGREDIENT_CONFLICT_LIST = new ArrayList<>();
 
@@ -51,49 +58,69 @@ public class MaterialManager implements IResourceManagerReloadListener {
 
         Multimap<String, IMaterial> ingredientConflicts = HashMultimap.create();
 
-        synchronized (MAP) {
-            MAP.clear();
-            ERROR_LIST.clear();
-            SilentGear.LOGGER.info(MARKER, "Reloading material files");
-
-            for (ResourceLocation id : resources) {
-                String path = id.getPath().substring(DATA_PATH.length() + 1, id.getPath().length() - ".json".length());
-                ResourceLocation name = new ResourceLocation(id.getNamespace(), path);
-
-                String packName = "ERROR";
-                try (IResource iresource = resourceManager.getResource(id)) {
-                    packName = iresource.getPackName();
-                    JsonObject json = JSONUtils.fromJson(GSON, IOUtils.toString(iresource.getInputStream(), StandardCharsets.UTF_8), JsonObject.class);
-                    if (json == null) {
-                        SilentGear.LOGGER.error(MARKER, "Could not load material {} as it's null or empty", name);
-                    } else if (!CraftingHelper.processConditions(json, "conditions")) {
-                        SilentGear.LOGGER.info(MARKER, "Skipping loading material {} as its conditions were not met", name);
-                    } else {
-                        IMaterial material = MaterialSerializers.deserialize(name, packName, json);
-                        MAP.put(material.getId(), material);
-                        addIngredientChecks(ingredientConflicts, material, json);
-                    }
-                } catch (IllegalArgumentException | JsonParseException ex) {
-                    SilentGear.LOGGER.error(MARKER, "Parsing error loading material {}", name, ex);
-                    ERROR_LIST.add(String.format("%s (%s)", name, packName));
-                } catch (IOException ex) {
-                    SilentGear.LOGGER.error(MARKER, "Could not read material {}", name, ex);
-                    ERROR_LIST.add(String.format("%s (%s)", name, packName));
+        Map<ResourceLocation, IMaterial> map = new LinkedHashMap<>();
+        ERROR_LIST.clear();
+        SilentGear.LOGGER.info(MARKER, "Reloading material files");
+
+        // Files are read and deserialized in parallel, then added in order
+        for (DataFileLoader.Result<Pair<IMaterial, String>> result : DataFileLoader.loadAll(resourceManager, resources, MaterialManager::loadMaterial)) {
+            ResourceLocation name = getMaterialName(result.getId());
+            Exception error = result.getError();
+            if (error instanceof IOException) {
+                SilentGear.LOGGER.error(MARKER, "Could not read material {}", name, error);
+                ERROR_LIST.add(String.format("%s (%s)", name, result.getPackName()));
+            } else if (error != null) {
+                SilentGear.LOGGER.error(MARKER, "Parsing error loading material {}", name, error);
+                ERROR_LIST.add(String.format("%s (%s)", name, result.getPackName()));
+            } else if (result.getValue() != null) {
+                IMaterial material = result.getValue().getFirst();
+                map.put(material.getId(), material);
+                if (!result.getValue().getSecond().isEmpty()) {
+                    ingredientConflicts.put(result.getValue().getSecond(), material);
                 }
             }
         }
 
+        registry = new Registry(map);
+
         checkForIngredientConflicts(ingredientConflicts);
     }
 
-    private static void addIngredientChecks(Multimap<String, IMaterial> map, IMaterial material, JsonObject json) {
-        // Adds main ingredient to the map. Used to check for ingredient conflicts.
+    /**
+     * Loads a single material file. Called from worker threads.
+     *
+     * @return The material, paired with the key used to check for ingredient conflicts (empty if
+     * the material has no main crafting item), or null if the file was skipped
+     */
+    @Nullable
+    private static Pair<IMaterial, String> loadMaterial(ResourceLocation id, IResource iresource) throws IOException {
+        ResourceLocation name = getMaterialName(id);
+        JsonObject json = JSONUtils.fromJson(GSON, IOUtils.toString(iresource.getInputStream(), StandardCharsets.UTF_8), JsonObject.class);
+        if (json == null) {
+            SilentGear.LOGGER.error(MARKER, "Could not load material {} as it's null or empty", name);
+            return null;
+        } else if (!CraftingHelper.processConditions(json, "conditions")) {
+            SilentGear.LOGGER.info(MARKER, "Skipping loading material {} as its conditions were not met", name);
+            return null;
+        }
+
+        IMaterial material = MaterialSerializers.deserialize(name, iresource.getPackName(), json);
+        return Pair.of(material, getIngredientCheckKey(json));
+    }
+
+    private static ResourceLocation getMaterialName(ResourceLocation id) {
+        String path = id.getPath().substring(DATA_PATH.length() + 1, id.getPath().length() - ".json".length());
+        return new ResourceLocation(id.getNamespace(), path);
+    }
+
+    private static String getIngredientCheckKey(JsonObject json) {
+        // Main ingredient, used to check for ingredient conflicts
         JsonObject craftingItemsJson = json.getAsJsonObject("crafting_items");
         if (craftingItemsJson != null && craftingItemsJson.has("main")) {
             JsonElement mainJson = craftingItemsJson.get("main");
-            String key = GSON.toJson(mainJson);
-            map.put(key, material);
+            return GSON.toJson(mainJson);
         }
+        return "";
     }
 
     private static void checkForIngredientConflicts(Multimap<String, IMaterial> map) {
@@ -107,66 +134,66 @@ public class MaterialManager implements IResourceManagerReloadListener {
         }
     }
 
+    /**
+     * Gets all materials. The returned list is immutable.
+     *
+     * @return List of all materials
+     */
     public static List<IMaterial> getValues() {
         return getValues(true);
     }
 
+    /**
+     * Gets all materials, optionally excluding children. The returned list is immutable.
+     *
+     * @param includeChildren Whether to include child materials (materials with a parent)
+     * @return List of materials
+     */
     public static List<IMaterial> getValues(boolean includeChildren) {
-        synchronized (MAP) {
-            List<IMaterial> list = new ArrayList<>();
-            for (IMaterial m : MAP.values()) {
-                if (includeChildren || m.getParent() == null) {
-                    list.add(m);
-                }
-            }
-            return list;
-        }
+        Registry reg = registry;
+        return includeChildren ? reg.values : reg.roots.get();
     }
 
+    /**
+     * Gets the materials which have the given material as their parent. The returned list is
+     * immutable.
+     *
+     * @param material The parent material
+     * @return List of child materials
+     */
     public static List<IMaterial> getChildren(IMaterial material) {
-        synchronized (MAP) {
-            List<IMaterial> list = new ArrayList<>();
-            for (IMaterial m : MAP.values()) {
-                if (m.getParent() == material) {
-                    list.add(m);
-                }
-            }
-            return list;
-        }
+        return registry.children.get().get(material);
     }
 
     @Nullable
     public static IMaterial get(@Nullable ResourceLocation id) {
         if (id == null) return null;
-
-        synchronized (MAP) {
-            return MAP.get(id);
-        }
+        return registry.map.get(id);
     }
 
     @Nullable
     public static IMaterial from(ItemStack stack) {
         if (stack.isEmpty()) return null;
+        return registry.getIngredientIndex().getFirstMatch(stack);
+    }
 
-        for (IMaterial material : getValues()) {
-            if (material.getIngredient().test(stack)) {
-                return material;
-            }
-        }
-
-        return null;
+    /**
+     * Discards the item-to-material index, so it will be rebuilt on next use. Call this if material
+     * ingredients change (tags reloaded, crafting items corrected by the server).
+     */
+    public static void invalidateIngredientIndex() {
+        registry.ingredientIndex = null;
     }
 
     public static void handleSyncPacket(SyncMaterialsPacket msg, Supplier<NetworkEvent.Context> ctx) {
-        synchronized (MAP) {
-            Map<ResourceLocation, IMaterial> oldMaterials = ImmutableMap.copyOf(MAP);
-            MAP.clear();
-            for (IMaterial mat : msg.getMaterials()) {
-                mat.retainData(oldMaterials.get(mat.getId()));
-                MAP.put(mat.getId(), mat);
-            }
-            SilentGear.LOGGER.info("Read {} materials from server", MAP.size());
+        Map<ResourceLocation, IMaterial> oldMaterials = registry.map;
+        Map<ResourceLocation, IMaterial> map = new LinkedHashMap<>();
+        for (IMaterial mat : msg.getMaterials()) {
+            mat.retainData(oldMaterials.get(mat.getId()));
+            map.put(mat.getId(), mat);
         }
+        registry = new Registry(map);
+        SilentGear.LOGGER.info("Read {} materials from server", map.size());
         ctx.get().setPacketHandled(true);
     }
 
@@ -184,4 +211,44 @@ public class MaterialManager implements IResourceManagerReloadListener {
         });
         return ret;
     }
+
+    /**
+     * An immutable view of all loaded materials. Views which depend on material parents are built
+     * lazily, because parents are resolved through {@link #get(ResourceLocation)} and so are only
+     * available once the registry has been published.
+     */
+    private static final class Registry {
+        private final ImmutableMap<ResourceLocation, IMaterial> map;
+        private final ImmutableList<IMaterial> values;
+        private final Supplier<ImmutableList<IMaterial>> roots;
+        private final Supplier<ImmutableListMultimap<IMaterial, IMaterial>> children;
+        private volatile IngredientIndex<IMaterial> ingredientIndex;
+
+        private Registry(Map<ResourceLocation, IMaterial> map) {
+            this.map = ImmutableMap.copyOf(map);
+            this.values = this.map.values().asList();
+            this.roots = Suppliers.memoize(() -> ImmutableList.copyOf(this.values.stream()
+                    .filter(m -> m.getParent() == null)
+                    .iterator()));
+            this.children = Suppliers.memoize(() -> {
+                ImmutableListMultimap.Builder<IMaterial, IMaterial> builder = ImmutableListMultimap.builder();
+                for (IMaterial m : this.values) {
+                    IMaterial parent = m.getParent();
+                    if (parent != null) {
+                        builder.put(parent, m);
+                    }
+                }
+                return builder.build();
+            });
+        }
+
+        private IngredientIndex<IMaterial> getIngredientIndex() {
+            IngredientIndex<IMaterial> index = this.ingredientIndex;
+            if (index == null) {
+                index = IngredientIndex.build(this.values, IMaterial::getIngredient);
+                this.ingredientIndex = index;
+            }
+            return index;
+        }
+    }
 }
@@ -55,6 +55,8 @@ public class PartMaterial implements IMaterial {
     final Map<String, MaterialLayerList> display = new HashMap<>();
     final List<String> blacklistedGearTypes = new ArrayList<>();
 
+    @Nullable private volatile ResolvedMaterialData resolved;
+
     public PartMaterial(ResourceLocation id, String packName) {
         this.materialId = id;
         this.packName = packName;
@@ -137,8 +139,27 @@ public class PartMaterial implements IMaterial {
         return stats.containsKey(partType) || (getParent() != null && getParent().allowedInPart(material, partType));
     }
 
+    private ResolvedMaterialData getResolved() {
+        ResolvedMaterialData ret = this.resolved;
+        if (ret == null || !ret.isValid()) {
+            ret = new ResolvedMaterialData(this);
+            this.resolved = ret;
+        }
+        return ret;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned collection is immutable.
+     */
     @Override
     public Collection<StatInstance> getStatModifiers(IMaterialInstance material, PartType partType, StatGearKey key, ItemStack gear) {
+        List<StatInstance> resolvedMods = getResolved().getStatModifiers(partType, key);
+        if (resolvedMods != null) {
+            return resolvedMods;
+        }
+
         Collection<StatInstance> ret = new ArrayList<>(stats.getOrDefault(partType, StatModifierMap.EMPTY_STAT_MAP).get(key));
         if (ret.isEmpty() && getParent() != null) {
             ret.addAll(getParent().getStatModifiers(material, partType, key, gear));
@@ -151,8 +172,18 @@ public class PartMaterial implements IMaterial {
         return this.stats.getOrDefault(type, StatModifierMap.EMPTY_STAT_MAP).keySet();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned collection is immutable.
+     */
     @Override
     public Collection<TraitInstance> getTraits(IMaterialInstance instance, PartType partType, GearType gearType, ItemStack gear) {
+        List<TraitInstance> resolvedTraits = getResolved().getTraits(partType);
+        if (resolvedTraits != null) {
+            return resolvedTraits;
+        }
+
         List<TraitInstance> ret = new ArrayList<>(traits.getOrDefault(partType, Collections.emptyList()));
         if (ret.isEmpty() && getParent() != null) {
             ret.addAll(getParent().getTraits(instance, partType, gearType, gear));
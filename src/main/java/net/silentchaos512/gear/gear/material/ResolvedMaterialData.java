@@ -0,0 +1,125 @@
+package net.silentchaos512.gear.gear.material;
+
+import com.google.common.collect.ImmutableList;
+import net.silentchaos512.gear.api.material.IMaterial;
+import net.silentchaos512.gear.api.part.PartType;
+import net.silentchaos512.gear.api.stats.ItemStat;
+import net.silentchaos512.gear.api.stats.ItemStats;
+import net.silentchaos512.gear.api.stats.StatInstance;
+import net.silentchaos512.gear.api.stats.StatModifierMap;
+import net.silentchaos512.gear.api.traits.TraitInstance;
+import net.silentchaos512.gear.api.util.StatGearKey;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stat modifiers and traits of a {@link PartMaterial} with parent materials and gear type
+ * fallbacks already resolved. Stat modifiers are stored in a table for each part type, indexed by
+ * stat ordinal and gear type ordinal, so repeated lookups are just array access.
+ * <p>
+ * Cells are resolved on first use rather than all at once, since most materials only ever see a
+ * few of the possible combinations. Resolved lists are immutable, so a cell being resolved twice
+ * by racing threads is harmless. Materials are not modified after loading, but parents are looked
+ * up through {@link MaterialManager}, so the data is discarded whenever materials are reloaded or
+ * synced.
+ */
+final class ResolvedMaterialData {
+    // Marks cells which depend on a material that is not a PartMaterial, and cannot be resolved
+    private static final List<StatInstance> UNRESOLVED = Collections.unmodifiableList(new ArrayList<>());
+
+    private final PartMaterial material;
+    // Registry collections are replaced on every reload, so their identity works as a version
+    private final Collection<?> materials;
+    private final int statCount;
+    private final Map<PartType, List<StatInstance>[][]> stats = new ConcurrentHashMap<>();
+    private final Map<PartType, Optional<List<TraitInstance>>> traits = new ConcurrentHashMap<>();
+
+    ResolvedMaterialData(PartMaterial material) {
+        this.material = material;
+        this.materials = MaterialManager.getValues();
+        this.statCount = ItemStats.allStatsOrdered().size();
+    }
+
+    boolean isValid() {
+        return this.materials == MaterialManager.getValues();
+    }
+
+    /**
+     * Gets the stat modifiers of the material, or its closest ancestor which has any.
+     *
+     * @param partType The part type
+     * @param key      The stat and gear type
+     * @return An immutable list of modifiers, or null if they cannot be resolved ahead of time
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    List<StatInstance> getStatModifiers(PartType partType, StatGearKey key) {
+        if (!(key.getStat() instanceof ItemStat)) {
+            return null;
+        }
+
+        int statIndex = ((ItemStat) key.getStat()).getOrdinal();
+        int typeIndex = key.getGearType().getOrdinal();
+        if (statIndex >= this.statCount) {
+            return null;
+        }
+
+        List<StatInstance>[][] table = this.stats.computeIfAbsent(partType, pt -> new List[this.statCount][]);
+        List<StatInstance>[] row = table[statIndex];
+        if (row == null || typeIndex >= row.length) {
+            row = row != null ? Arrays.copyOf(row, typeIndex + 1) : new List[typeIndex + 1];
+            table[statIndex] = row;
+        }
+
+        List<StatInstance> ret = row[typeIndex];
+        if (ret == null) {
+            ret = resolveStatModifiers(partType, key);
+            row[typeIndex] = ret;
+        }
+        return ret != UNRESOLVED ? ret : null;
+    }
+
+    private List<StatInstance> resolveStatModifiers(PartType partType, StatGearKey key) {
+        Set<IMaterial> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (IMaterial mat = this.material; mat != null && visited.add(mat); mat = mat.getParent()) {
+            if (!(mat instanceof PartMaterial)) {
+                return UNRESOLVED;
+            }
+
+            // StatModifierMap#get falls back to parent gear types
+            Collection<StatInstance> mods = ((PartMaterial) mat).stats.getOrDefault(partType, StatModifierMap.EMPTY_STAT_MAP).get(key);
+            if (!mods.isEmpty()) {
+                return ImmutableList.copyOf(mods);
+            }
+        }
+        return ImmutableList.of();
+    }
+
+    /**
+     * Gets the traits of the material, or its closest ancestor which has any.
+     *
+     * @param partType The part type
+     * @return An immutable list of traits, or null if they cannot be resolved ahead of time
+     */
+    @Nullable
+    List<TraitInstance> getTraits(PartType partType) {
+        return this.traits.computeIfAbsent(partType, this::resolveTraits).orElse(null);
+    }
+
+    private Optional<List<TraitInstance>> resolveTraits(PartType partType) {
+        Set<IMaterial> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (IMaterial mat = this.material; mat != null && visited.add(mat); mat = mat.getParent()) {
+            if (!(mat instanceof PartMaterial)) {
+                return Optional.empty();
+            }
+
+            List<TraitInstance> list = ((PartMaterial) mat).traits.getOrDefault(partType, Collections.emptyList());
+            if (!list.isEmpty()) {
+                return Optional.of(ImmutableList.copyOf(list));
+            }
+        }
+        return Optional.of(ImmutableList.of());
+    }
+}
@@ -25,6 +25,7 @@ import net.silentchaos512.gear.gear.material.MaterialInstance;
 import net.silentchaos512.gear.gear.material.MaterialManager;
 import net.silentchaos512.gear.item.CompoundPartItem;
 import net.silentchaos512.gear.util.GearHelper;
+import net.silentchaos512.gear.util.RecalculationContext;
 import net.silentchaos512.gear.util.SynergyUtils;
 import net.silentchaos512.gear.util.TraitHelper;
 import net.silentchaos512.utils.MathUtils;
@@ -155,7 +156,7 @@ public class CompoundPart extends AbstractGearPart {
 
         // Synergy
         if (key.getStat().doesSynergyApply()) {
-            final float synergy = SynergyUtils.getSynergy(this.partType, materials, getTraits(part, partType, gearType, gear));
+            final float synergy = getSynergy(part, partType, materials, gear);
             if (!MathUtils.floatsEqual(synergy, 1.0f)) {
                 final float multi = synergy - 1f;
                 for (int i = 0; i < ret.size(); ++i) {
@@ -172,6 +173,14 @@ public class CompoundPart extends AbstractGearPart {
         return ret;
     }
 
+    private float getSynergy(IPartData part, PartType partType, List<MaterialInstance> materials, ItemStack gear) {
+        RecalculationContext context = RecalculationContext.current();
+        if (context != null) {
+            return context.getSynergy(part, () -> SynergyUtils.getSynergy(this.partType, materials, getTraits(part, partType, this.gearType, gear)));
+        }
+        return SynergyUtils.getSynergy(this.partType, materials, getTraits(part, partType, this.gearType, gear));
+    }
+
     private static StatInstance compressModifiers(Collection<StatInstance> mods, StatInstance.Operation operation) {
         // We do NOT want to average together max modifiers...
         if (operation == StatInstance.Operation.MAX) {
@@ -186,6 +195,14 @@ public class CompoundPart extends AbstractGearPart {
 
     @Override
     public Collection<TraitInstance> getTraits(IPartData part, PartType partType, GearType gearType, ItemStack gear) {
+        RecalculationContext context = RecalculationContext.current();
+        if (context != null) {
+            return context.getTraits(part, partType, gearType, () -> computeTraits(part, partType, gearType, gear));
+        }
+        return computeTraits(part, partType, gearType, gear);
+    }
+
+    private List<TraitInstance> computeTraits(IPartData part, PartType partType, GearType gearType, ItemStack gear) {
         List<TraitInstance> ret = new ArrayList<>(super.getTraits(part, partType, gearType, gear));
         List<MaterialInstance> materials = getMaterials(part);
 
@@ -201,6 +218,10 @@ public class CompoundPart extends AbstractGearPart {
 
     @Override
     public List<MaterialInstance> getMaterials(IPartData part) {
+        RecalculationContext context = RecalculationContext.current();
+        if (context != null) {
+            return context.getMaterials(part.getItem(), CompoundPartItem::getMaterials);
+        }
         return CompoundPartItem.getMaterials(part.getItem());
     }
 
@@ -13,12 +13,12 @@ import net.silentchaos512.gear.api.traits.TraitInstance;
 import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class FakePartData implements IPartData {
     private static final ResourceLocation FAKE_ID = SilentGear.getId("fake");
-    private static final Map<PartType, FakePartData> CACHE = new HashMap<>();
+    private static final Map<PartType, FakePartData> CACHE = new ConcurrentHashMap<>();
 
     private final PartType type;
 
@@ -1,11 +1,12 @@
 package net.silentchaos512.gear.gear.part;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Multimaps;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.resources.IResource;
@@ -22,6 +23,8 @@ import net.silentchaos512.gear.SilentGear;
 import net.silentchaos512.gear.api.part.IGearPart;
 import net.silentchaos512.gear.api.part.PartType;
 import net.silentchaos512.gear.network.SyncGearPartsPacket;
+import net.silentchaos512.gear.util.DataFileLoader;
+import net.silentchaos512.gear.util.IngredientIndex;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
@@ -31,7 +34,6 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 @SuppressWarnings("deprecation")
 public final class PartManager implements IResourceManagerReloadListener {
@@ -41,7 +43,8 @@ public final class PartManager implements IResourceManagerReloadListener {
 
     private static final String DATA_PATH = "silentgear_parts";
     private static final String DATA_PATH_OLD = "silentgear/parts";
-    private static final Map<ResourceLocation, IGearPart> MAP = Collections.synchronizedMap(new LinkedHashMap<>());
+    // Replaced as a whole on reload or sync, so readers never need to lock
+    private static volatile Registry registry = new Registry(Collections.emptyMap());
     private static int highestMainPartTier = 0;
     private static final Collection<String> ERROR_LIST = new ArrayList<>();
 
@@ -57,46 +60,57 @@ public final class PartManager implements IResourceManagerReloadListener {
         Collection<ResourceLocation> resources = getAllResources(resourceManager);
         if (resources.isEmpty()) return;
 
-        synchronized (MAP) {
-            MAP.clear();
-            ERROR_LIST.clear();
-            SilentGear.LOGGER.info(MARKER, "Reloading part files");
-
-            for (ResourceLocation id : resources) {
-                String path = id.getPath().substring(DATA_PATH.length() + 1, id.getPath().length() - ".json".length());
-                ResourceLocation name = new ResourceLocation(id.getNamespace(), path);
-
-                String packName = "ERROR";
-                try (IResource iresource = resourceManager.getResource(id)) {
-                    packName = iresource.getPackName();
-                    if (SilentGear.LOGGER.isTraceEnabled()) {
-                        SilentGear.LOGGER.trace(MARKER, "Found likely part file: {}, trying to read as part {}", id, name);
-                    }
-
-                    JsonObject json = JSONUtils.fromJson(gson, IOUtils.toString(iresource.getInputStream(), StandardCharsets.UTF_8), JsonObject.class);
-                    if (json == null) {
-                        SilentGear.LOGGER.error(MARKER, "Could not load part {} as it's null or empty", name);
-                    } else if (!CraftingHelper.processConditions(json, "conditions")) {
-                        SilentGear.LOGGER.info("Skipping loading gear part {} as it's conditions were not met", name);
-                    } else {
-                        IGearPart part = PartSerializers.deserialize(name, json);
-                        if (part instanceof AbstractGearPart) {
-                            ((AbstractGearPart) part).packName = iresource.getPackName();
-                        }
-                        addPart(part);
-                        highestMainPartTier = Math.max(highestMainPartTier, part.getTier());
-                    }
-                } catch (IllegalArgumentException | JsonParseException ex) {
-                    SilentGear.LOGGER.error(MARKER, "Parsing error loading gear part {}", name, ex);
-                    ERROR_LIST.add(String.format("%s (%s)", name, packName));
-                } catch (IOException ex) {
-                    SilentGear.LOGGER.error(MARKER, "Could not read gear part {}", name, ex);
-                    ERROR_LIST.add(String.format("%s (%s)", name, packName));
-                }
+        Map<ResourceLocation, IGearPart> map = new LinkedHashMap<>();
+        ERROR_LIST.clear();
+        SilentGear.LOGGER.info(MARKER, "Reloading part files");
+
+        // Files are read and deserialized in parallel, then added in order
+        for (DataFileLoader.Result<IGearPart> result : DataFileLoader.loadAll(resourceManager, resources, (id, iresource) -> loadPart(gson, id, iresource))) {
+            ResourceLocation name = getPartName(result.getId());
+            Exception error = result.getError();
+            if (error instanceof IOException) {
+                SilentGear.LOGGER.error(MARKER, "Could not read gear part {}", name, error);
+                ERROR_LIST.add(String.format("%s (%s)", name, result.getPackName()));
+            } else if (error != null) {
+                SilentGear.LOGGER.error(MARKER, "Parsing error loading gear part {}", name, error);
+                ERROR_LIST.add(String.format("%s (%s)", name, result.getPackName()));
+            } else if (result.getValue() != null) {
+                IGearPart part = result.getValue();
+                addPart(map, part);
+                highestMainPartTier = Math.max(highestMainPartTier, part.getTier());
             }
+        }
+
+        registry = new Registry(map);
+        SilentGear.LOGGER.info(MARKER, "Registered {} parts", map.size());
+    }
+
+    @Nullable
+    private static IGearPart loadPart(Gson gson, ResourceLocation id, IResource iresource) throws IOException {
+        ResourceLocation name = getPartName(id);
+        if (SilentGear.LOGGER.isTraceEnabled()) {
+            SilentGear.LOGGER.trace(MARKER, "Found likely part file: {}, trying to read as part {}", id, name);
+        }
 
-            SilentGear.LOGGER.info(MARKER, "Registered {} parts", MAP.size());
+        JsonObject json = JSONUtils.fromJson(gson, IOUtils.toString(iresource.getInputStream(), StandardCharsets.UTF_8), JsonObject.class);
+        if (json == null) {
+            SilentGear.LOGGER.error(MARKER, "Could not load part {} as it's null or empty", name);
+            return null;
+        } else if (!CraftingHelper.processConditions(json, "conditions")) {
+            SilentGear.LOGGER.info("Skipping loading gear part {} as it's conditions were not met", name);
+            return null;
         }
+
+        IGearPart part = PartSerializers.deserialize(name, json);
+        if (part instanceof AbstractGearPart) {
+            ((AbstractGearPart) part).packName = iresource.getPackName();
+        }
+        return part;
+    }
+
+    private static ResourceLocation getPartName(ResourceLocation id) {
+        String path = id.getPath().substring(DATA_PATH.length() + 1, id.getPath().length() - ".json".length());
+        return new ResourceLocation(id.getNamespace(), path);
     }
 
     private static Collection<ResourceLocation> getAllResources(IResourceManager resourceManager) {
@@ -106,24 +120,31 @@ public final class PartManager implements IResourceManagerReloadListener {
         return list;
     }
 
-    private static void addPart(IGearPart part) {
-        if (MAP.containsKey(part.getId())) {
+    private static void addPart(Map<ResourceLocation, IGearPart> map, IGearPart part) {
+        if (map.containsKey(part.getId())) {
             throw new IllegalStateException("Duplicate gear part " + part.getId());
         } else {
-            MAP.put(part.getId(), part);
+            map.put(part.getId(), part);
         }
     }
 
+    /**
+     * Gets all parts. The returned collection is immutable.
+     *
+     * @return All parts
+     */
     public static Collection<IGearPart> getValues() {
-        synchronized (MAP) {
-            return MAP.values();
-        }
+        return registry.values;
     }
 
+    /**
+     * Gets all parts of the given type. The returned list is immutable.
+     *
+     * @param type The part type
+     * @return List of parts of the type
+     */
     public static List<IGearPart> getPartsOfType(PartType type) {
-        return getValues().stream()
-                .filter(part -> part.getType() == type)
-                .collect(Collectors.toList());
+        return registry.byType.get(type);
     }
 
     @Deprecated
@@ -138,9 +159,7 @@ public final class PartManager implements IResourceManagerReloadListener {
 
     @Nullable
     public static IGearPart get(ResourceLocation id) {
-        synchronized (MAP) {
-            return MAP.get(id);
-        }
+        return registry.map.get(id);
     }
 
     @Nullable
@@ -152,27 +171,26 @@ public final class PartManager implements IResourceManagerReloadListener {
     @Nullable
     public static IGearPart from(ItemStack stack) {
         if (stack.isEmpty()) return null;
+        return registry.getIngredientIndex().getFirstMatch(stack);
+    }
 
-        // We can't reliable keep an IItemProvider -> IGearPart map anymore
-        for (IGearPart part : getValues()) {
-            if (part.getIngredient().test(stack)) {
-                return part;
-            }
-        }
-
-        return null;
+    /**
+     * Discards the item-to-part index, so it will be rebuilt on next use. Call this if part
+     * ingredients change (tags reloaded, crafting items corrected by the server).
+     */
+    public static void invalidateIngredientIndex() {
+        registry.ingredientIndex = null;
     }
 
     public static void handlePartSyncPacket(SyncGearPartsPacket packet, Supplier<NetworkEvent.Context> context) {
-        synchronized (MAP) {
-            Map<ResourceLocation, IGearPart> oldParts = ImmutableMap.copyOf(MAP);
-            MAP.clear();
-            for (IGearPart part : packet.getParts()) {
-                part.retainData(oldParts.get(part.getId()));
-                MAP.put(part.getId(), part);
-            }
-            SilentGear.LOGGER.info("Read {} parts from server", MAP.size());
+        Map<ResourceLocation, IGearPart> oldParts = registry.map;
+        Map<ResourceLocation, IGearPart> map = new LinkedHashMap<>();
+        for (IGearPart part : packet.getParts()) {
+            part.retainData(oldParts.get(part.getId()));
+            map.put(part.getId(), part);
         }
+        registry = new Registry(map);
+        SilentGear.LOGGER.info("Read {} parts from server", map.size());
         context.get().setPacketHandled(true);
     }
 
@@ -187,4 +205,29 @@ public final class PartManager implements IResourceManagerReloadListener {
         }
         return ImmutableList.of();
     }
+
+    /**
+     * An immutable view of all loaded parts.
+     */
+    private static final class Registry {
+        private final ImmutableMap<ResourceLocation, IGearPart> map;
+        private final ImmutableList<IGearPart> values;
+        private final ImmutableListMultimap<PartType, IGearPart> byType;
+        private volatile IngredientIndex<IGearPart> ingredientIndex;
+
+        private Registry(Map<ResourceLocation, IGearPart> map) {
+            this.map = ImmutableMap.copyOf(map);
+            this.values = this.map.values().asList();
+            this.byType = Multimaps.index(this.values, IGearPart::getType);
+        }
+
+        private IngredientIndex<IGearPart> getIngredientIndex() {
+            IngredientIndex<IGearPart> index = this.ingredientIndex;
+            if (index == null) {
+                index = IngredientIndex.build(this.values, IGearPart::getIngredient);
+                this.ingredientIndex = index;
+            }
+            return index;
+        }
+    }
 }
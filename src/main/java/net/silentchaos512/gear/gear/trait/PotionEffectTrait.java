@@ -36,12 +36,27 @@ public final class PotionEffectTrait extends SimpleTrait {
             PotionEffectTrait::writeBuffer
     );
 
+    // Effects are refreshed well before they expire, no need to do it every tick
+    private static final int MAX_UPDATE_INTERVAL = 10;
+
     private final Map<String, List<PotionData>> potions = new HashMap<>();
 
     private PotionEffectTrait(ResourceLocation id) {
         super(id, SERIALIZER);
     }
 
+    @Override
+    public int getUpdateInterval() {
+        // Must be short enough for effects to be refreshed before they run out
+        int interval = MAX_UPDATE_INTERVAL;
+        for (List<PotionData> list : potions.values()) {
+            for (PotionData potionData : list) {
+                interval = Math.min(interval, potionData.duration / 3);
+            }
+        }
+        return Math.max(1, interval);
+    }
+
     @Override
     public void onUpdate(TraitActionContext context, boolean isEquipped) {
         PlayerEntity player = context.getPlayer();
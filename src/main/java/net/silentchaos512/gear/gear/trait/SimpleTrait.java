@@ -24,14 +24,34 @@ import net.silentchaos512.gear.api.stats.ItemStat;
 import net.silentchaos512.gear.api.traits.ITrait;
 import net.silentchaos512.gear.api.traits.ITraitSerializer;
 import net.silentchaos512.gear.api.traits.TraitActionContext;
+import net.silentchaos512.gear.api.traits.TraitHook;
 
 import javax.annotation.Nullable;
+import java.lang.reflect.Method;
 import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class SimpleTrait implements ITrait {
+    // Hooks overridden by each subclass, since the implementations here do nothing
+    private static final ClassValue<Set<TraitHook>> HOOKS = new ClassValue<Set<TraitHook>>() {
+        @Override
+        protected Set<TraitHook> computeValue(Class<?> type) {
+            Set<TraitHook> hooks = EnumSet.noneOf(TraitHook.class);
+            for (Method method : type.getMethods()) {
+                Class<?> declaringClass = method.getDeclaringClass();
+                if (declaringClass != SimpleTrait.class && !declaringClass.isInterface()) {
+                    TraitHook hook = TraitHook.byMethodName(method.getName());
+                    if (hook != null) {
+                        hooks.add(hook);
+                    }
+                }
+            }
+            return Collections.unmodifiableSet(hooks);
+        }
+    };
+
     public static final Serializer<SimpleTrait> SERIALIZER = new Serializer<>(Serializer.NAME, SimpleTrait::new);
 
     private final ResourceLocation objId;
@@ -104,6 +124,11 @@ public class SimpleTrait implements ITrait {
         return serializer;
     }
 
+    @Override
+    public Set<TraitHook> getHooks() {
+        return HOOKS.get(getClass());
+    }
+
     @Override
     public float onAttackEntity(TraitActionContext context, LivingEntity target, float baseValue) {
         return baseValue;
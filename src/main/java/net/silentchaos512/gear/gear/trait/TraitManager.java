@@ -5,7 +5,6 @@ import com.google.common.collect.ImmutableMap;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.resources.IResource;
 import net.minecraft.resources.IResourceManager;
@@ -19,6 +18,8 @@ import net.minecraftforge.fml.network.NetworkEvent;
 import net.silentchaos512.gear.SilentGear;
 import net.silentchaos512.gear.api.traits.ITrait;
 import net.silentchaos512.gear.network.SyncTraitsPacket;
+import net.silentchaos512.gear.util.DataFileLoader;
+import net.silentchaos512.gear.util.GearSnapshot;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
@@ -38,7 +39,8 @@ public final class TraitManager implements IResourceManagerReloadListener {
 
     private static final String DATA_PATH = "silentgear_traits";
     private static final String DATA_PATH_OLD = "silentgear/traits";
-    private static final Map<ResourceLocation, ITrait> MAP = Collections.synchronizedMap(new LinkedHashMap<>());
+    // Replaced as a whole on reload or sync, so readers never need to lock
+    private static volatile ImmutableMap<ResourceLocation, ITrait> map = ImmutableMap.of();
     private static final Collection<ResourceLocation> ERROR_LIST = new ArrayList<>();
 
     private TraitManager() {}
@@ -49,35 +51,53 @@ public final class TraitManager implements IResourceManagerReloadListener {
         Collection<ResourceLocation> resources = getAllResources(resourceManager);
         if (resources.isEmpty()) return;
 
-        MAP.clear();
+        Map<ResourceLocation, ITrait> newMap = new LinkedHashMap<>();
         ERROR_LIST.clear();
         SilentGear.LOGGER.info(MARKER, "Reloading trait files");
 
-        for (ResourceLocation id : resources) {
-            String path = id.getPath().substring(DATA_PATH.length() + 1, id.getPath().length() - ".json".length());
-            ResourceLocation name = new ResourceLocation(id.getNamespace(), path);
-
-            try (IResource iresource = resourceManager.getResource(id)) {
-                if (SilentGear.LOGGER.isTraceEnabled()) {
-                    SilentGear.LOGGER.trace(MARKER, "Found likely trait file: {}, trying to read as trait {}", id, name);
-                }
-
-                JsonObject json = JSONUtils.fromJson(gson, IOUtils.toString(iresource.getInputStream(), StandardCharsets.UTF_8), JsonObject.class);
-                if (json == null) {
-                    SilentGear.LOGGER.error(MARKER, "could not load trait {} as it's null or empty", name);
-                } else {
-                    addTrait(TraitSerializers.deserialize(name, json));
-                }
-            } catch (IllegalArgumentException | JsonParseException ex) {
-                SilentGear.LOGGER.error(MARKER, "Parsing error loading trait {}", name, ex);
+        // Files are read and deserialized in parallel, then added in order
+        for (DataFileLoader.Result<ITrait> result : DataFileLoader.loadAll(resourceManager, resources, (id, iresource) -> loadTrait(gson, id, iresource))) {
+            ResourceLocation name = getTraitName(result.getId());
+            Exception error = result.getError();
+            if (error instanceof IOException) {
+                SilentGear.LOGGER.error(MARKER, "Could not read trait {}", name, error);
                 ERROR_LIST.add(name);
-            } catch (IOException ex) {
-                SilentGear.LOGGER.error(MARKER, "Could not read trait {}", name, ex);
+            } else if (error != null) {
+                SilentGear.LOGGER.error(MARKER, "Parsing error loading trait {}", name, error);
                 ERROR_LIST.add(name);
+            } else if (result.getValue() != null) {
+                try {
+                    addTrait(newMap, result.getValue());
+                } catch (IllegalArgumentException ex) {
+                    SilentGear.LOGGER.error(MARKER, "Parsing error loading trait {}", name, ex);
+                    ERROR_LIST.add(name);
+                }
             }
         }
 
-        SilentGear.LOGGER.info(MARKER, "Registered {} traits", MAP.size());
+        map = ImmutableMap.copyOf(newMap);
+        SilentGear.LOGGER.info(MARKER, "Registered {} traits", newMap.size());
+        GearSnapshot.invalidateAll();
+    }
+
+    @Nullable
+    private static ITrait loadTrait(Gson gson, ResourceLocation id, IResource iresource) throws IOException {
+        ResourceLocation name = getTraitName(id);
+        if (SilentGear.LOGGER.isTraceEnabled()) {
+            SilentGear.LOGGER.trace(MARKER, "Found likely trait file: {}, trying to read as trait {}", id, name);
+        }
+
+        JsonObject json = JSONUtils.fromJson(gson, IOUtils.toString(iresource.getInputStream(), StandardCharsets.UTF_8), JsonObject.class);
+        if (json == null) {
+            SilentGear.LOGGER.error(MARKER, "could not load trait {} as it's null or empty", name);
+            return null;
+        }
+        return TraitSerializers.deserialize(name, json);
+    }
+
+    private static ResourceLocation getTraitName(ResourceLocation id) {
+        String path = id.getPath().substring(DATA_PATH.length() + 1, id.getPath().length() - ".json".length());
+        return new ResourceLocation(id.getNamespace(), path);
     }
 
     private static Collection<ResourceLocation> getAllResources(IResourceManager resourceManager) {
@@ -87,29 +107,25 @@ public final class TraitManager implements IResourceManagerReloadListener {
         return list;
     }
 
-    private static void addTrait(ITrait trait) {
-        if (MAP.containsKey(trait.getId())) {
+    private static void addTrait(Map<ResourceLocation, ITrait> map, ITrait trait) {
+        if (map.containsKey(trait.getId())) {
             throw new IllegalArgumentException("Duplicate trait " + trait.getId());
         } else {
-            MAP.put(trait.getId(), trait);
+            map.put(trait.getId(), trait);
         }
     }
 
     public static Collection<ResourceLocation> getKeys() {
-        synchronized (MAP) {
-            return MAP.keySet();
-        }
+        return map.keySet();
     }
 
     public static Collection<ITrait> getValues() {
-        synchronized (MAP) {
-            return MAP.values();
-        }
+        return map.values();
     }
 
     @Nullable
     public static ITrait get(ResourceLocation id) {
-        return MAP.get(id);
+        return map.get(id);
     }
 
     @Nullable
@@ -118,15 +134,15 @@ public final class TraitManager implements IResourceManagerReloadListener {
     }
 
     public static void handleTraitSyncPacket(SyncTraitsPacket packet, Supplier<NetworkEvent.Context> context) {
-        synchronized (MAP) {
-            Map<ResourceLocation, ITrait> oldTraits = ImmutableMap.copyOf(MAP);
-            MAP.clear();
-            for (ITrait trait : packet.getTraits()) {
-                trait.retainData(oldTraits.get(trait.getId()));
-                MAP.put(trait.getId(), trait);
-            }
-            SilentGear.LOGGER.info("Read {} traits from server", MAP.size());
+        Map<ResourceLocation, ITrait> oldTraits = map;
+        Map<ResourceLocation, ITrait> newMap = new LinkedHashMap<>();
+        for (ITrait trait : packet.getTraits()) {
+            trait.retainData(oldTraits.get(trait.getId()));
+            newMap.put(trait.getId(), trait);
         }
+        map = ImmutableMap.copyOf(newMap);
+        SilentGear.LOGGER.info("Read {} traits from server", newMap.size());
+        GearSnapshot.invalidateAll();
         context.get().setPacketHandled(true);
     }
 
@@ -1,5 +1,6 @@
 package net.silentchaos512.gear.item.gear;
 
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import net.minecraft.client.util.ITooltipFlag;
@@ -119,8 +120,12 @@ public class CoreArmor extends DyeableArmorItem implements ICoreArmor {
     @Nonnull
     @Override
     public Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlotType slot, ItemStack stack) {
-        Multimap<Attribute, AttributeModifier> multimap = LinkedHashMultimap.create();
-        if (slot == this.getEquipmentSlot()) {
+        if (slot != this.getEquipmentSlot()) {
+            return ImmutableMultimap.of();
+        }
+
+        return GearHelper.getCachedAttributeModifiers(stack, slot.getName(), () -> {
+            Multimap<Attribute, AttributeModifier> multimap = LinkedHashMultimap.create();
             UUID uuid = ARMOR_MODIFIERS[slot.getIndex()];
             multimap.put(Attributes.ARMOR, new AttributeModifier(uuid, "Armor modifier", getArmorProtection(stack), AttributeModifier.Operation.ADDITION));
             multimap.put(Attributes.ARMOR_TOUGHNESS, new AttributeModifier(uuid, "Armor toughness", getArmorToughness(stack), AttributeModifier.Operation.ADDITION));
@@ -129,8 +134,7 @@ public class CoreArmor extends DyeableArmorItem implements ICoreArmor {
                 multimap.put(Attributes.KNOCKBACK_RESISTANCE, new AttributeModifier(uuid, "Armor knockback resistance", knockbackResistance, AttributeModifier.Operation.ADDITION));
             }
             return GearHelper.getAttributeModifiers(slot, stack, multimap);
-        }
-        return multimap;
+        });
     }
 
     //endregion
@@ -1,6 +1,7 @@
 package net.silentchaos512.gear.item.gear;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
@@ -180,13 +181,15 @@ public class CoreElytra extends ElytraItem implements ICoreArmor {
 
     @Override
     public Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlotType slot, ItemStack stack) {
-        Multimap<Attribute, AttributeModifier> multimap = LinkedHashMultimap.create();
-
-        if (isValidSlot(slot.getName())) {
-            addAttributes(slot.getName(), stack, multimap, true);
+        if (!isValidSlot(slot.getName())) {
+            return ImmutableMultimap.of();
         }
 
-        return multimap;
+        return GearHelper.getCachedAttributeModifiers(stack, slot.getName(), () -> {
+            Multimap<Attribute, AttributeModifier> multimap = LinkedHashMultimap.create();
+            addAttributes(slot.getName(), stack, multimap, true);
+            return multimap;
+        });
     }
 
     public void addAttributes(String slot, ItemStack stack, Multimap<Attribute, AttributeModifier> multimap, boolean includeArmor) {
@@ -15,14 +15,12 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.inventory.EquipmentSlotType;
 import net.minecraft.item.*;
-import net.minecraft.network.play.server.SChangeBlockPacket;
 import net.minecraft.util.ActionResultType;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.World;
 import net.minecraft.world.server.ServerWorld;
-import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.common.ToolType;
 import net.silentchaos512.gear.api.item.GearType;
@@ -31,8 +29,10 @@ import net.silentchaos512.gear.api.stats.ItemStats;
 import net.silentchaos512.gear.client.util.GearClientHelper;
 import net.silentchaos512.gear.util.GearData;
 import net.silentchaos512.gear.util.GearHelper;
+import net.silentchaos512.gear.util.IAOETool;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -167,68 +167,26 @@ public class CoreSickle extends ToolItem implements ICoreTool {
 
         if (!effectiveMaterials.contains(state.getMaterial())) return false;
 
-        int blocksBroken = 1;
-
-        final int x = pos.getX();
-        final int y = pos.getY();
-        final int z = pos.getZ();
-
-        for (int xPos = x - range; xPos <= x + range; ++xPos) {
-            for (int zPos = z - range; zPos <= z + range; ++zPos) {
-                BlockPos target = new BlockPos(xPos, y, zPos);
-                if (!(xPos == x && zPos == z) && world.getBlockState(target) == state && breakExtraBlock(sickle, world, target, player, effectiveMaterials)) {
-                    ++blocksBroken;
+        if (world instanceof ServerWorld && player instanceof ServerPlayerEntity) {
+            final int x = pos.getX();
+            final int y = pos.getY();
+            final int z = pos.getZ();
+
+            List<BlockPos> targets = new ArrayList<>();
+            for (int xPos = x - range; xPos <= x + range; ++xPos) {
+                for (int zPos = z - range; zPos <= z + range; ++zPos) {
+                    BlockPos target = new BlockPos(xPos, y, zPos);
+                    if (!(xPos == x && zPos == z) && world.getBlockState(target) == state) {
+                        targets.add(target);
+                    }
                 }
             }
-        }
-
-        return super.onBlockStartBreak(sickle, pos, player);
-    }
-
-    private static boolean breakExtraBlock(ItemStack sickle, World world, BlockPos pos, PlayerEntity player, Set<Material> effectiveMaterials) {
-        if (world.isAirBlock(pos) || !(player instanceof ServerPlayerEntity)) return false;
-
-        ServerPlayerEntity playerMP = (ServerPlayerEntity) player;
-        BlockState state = player.world.getBlockState(pos);
-        Block block = state.getBlock();
-
-        if (!effectiveMaterials.contains(state.getMaterial())) return false;
-
-        int xpDropped = ForgeHooks.onBlockBreakEvent(world, playerMP.interactionManager.getGameType(), playerMP, pos);
-        boolean canceled = xpDropped == -1;
-        if (canceled) return false;
 
-        if (playerMP.abilities.isCreativeMode) {
-            block.onBlockHarvested(world, pos, state, player);
-            if (block.removedByPlayer(state, world, pos, playerMP, false, state.getFluidState())) {
-                block.onPlayerDestroy(world, pos, state);
-            }
-            if (!world.isRemote) {
-                playerMP.connection.sendPacket(new SChangeBlockPacket(world, pos));
-            }
-            return true;
+            IAOETool.BreakHandler.breakBlocks(sickle, (ServerWorld) world, (ServerPlayerEntity) player, pos, targets, false, (target, targetState) ->
+                    effectiveMaterials.contains(targetState.getMaterial()));
         }
 
-        if (!world.isRemote && world instanceof ServerWorld) {
-            block.onBlockHarvested(world, pos, state, playerMP);
-
-            if (block.removedByPlayer(state, world, pos, playerMP, true, state.getFluidState())) {
-                block.onPlayerDestroy(world, pos, state);
-                block.harvestBlock(world, player, pos, state, null, sickle);
-                block.dropXpOnBlockBreak((ServerWorld) world, pos, xpDropped);
-            }
-
-            playerMP.connection.sendPacket(new SChangeBlockPacket(world, pos));
-        } else {
-            world.playEvent(2001, pos, Block.getStateId(state));
-            if (block.removedByPlayer(state, world, pos, playerMP, true, state.getFluidState())) {
-                block.onPlayerDestroy(world, pos, state);
-            }
-
-            sickle.onBlockDestroyed(world, state, pos, playerMP);
-        }
-
-        return true;
+        return super.onBlockStartBreak(sickle, pos, player);
     }
 
     @Override
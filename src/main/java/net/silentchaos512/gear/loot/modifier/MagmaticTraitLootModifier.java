@@ -1,16 +1,12 @@
 package net.silentchaos512.gear.loot.modifier;
 
 import com.google.gson.JsonObject;
-import net.minecraft.inventory.Inventory;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.crafting.FurnaceRecipe;
-import net.minecraft.item.crafting.IRecipeType;
 import net.minecraft.loot.LootContext;
 import net.minecraft.loot.conditions.ILootCondition;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.common.loot.GlobalLootModifierSerializer;
 import net.minecraftforge.common.loot.LootModifier;
-import net.minecraftforge.items.ItemHandlerHelper;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
@@ -28,19 +24,11 @@ public class MagmaticTraitLootModifier extends LootModifier {
     @Nonnull
     @Override
     protected List<ItemStack> doApply(List<ItemStack> generatedLoot, LootContext context) {
-        List<ItemStack> ret = new ArrayList<>();
-        generatedLoot.forEach(s -> ret.add(smelt(s, context)));
+        List<ItemStack> ret = new ArrayList<>(generatedLoot.size());
+        generatedLoot.forEach(s -> ret.add(SmeltingResultCache.smelt(s, context.getWorld())));
         return ret;
     }
 
-    private static ItemStack smelt(ItemStack stack, LootContext context) {
-        return context.getWorld().getRecipeManager().getRecipe(IRecipeType.SMELTING, new Inventory(stack), context.getWorld())
-                .map(FurnaceRecipe::getRecipeOutput)
-                .filter(s -> !s.isEmpty())
-                .map(s -> ItemHandlerHelper.copyStackWithSize(s, stack.getCount() * s.getCount()))
-                .orElse(stack);
-    }
-
     public static class Serializer extends GlobalLootModifierSerializer<MagmaticTraitLootModifier> {
         @Override
         public MagmaticTraitLootModifier read(ResourceLocation name, JsonObject json, ILootCondition[] conditionsIn) {
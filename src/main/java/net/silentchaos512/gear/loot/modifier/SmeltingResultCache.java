@@ -0,0 +1,71 @@
+package net.silentchaos512.gear.loot.modifier;
+
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.FurnaceRecipe;
+import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the smelting result of each item, so loot modifiers do not scan every smelting recipe
+ * for each drop. Stacks with NBT always do a full lookup, since a recipe could depend on it.
+ * <p>
+ * The recipe manager is replaced when data packs are reloaded, so results are only kept for as
+ * long as the same recipe manager is in use.
+ */
+final class SmeltingResultCache {
+    private static volatile SmeltingResultCache instance = new SmeltingResultCache(null);
+
+    @Nullable private final RecipeManager recipeManager;
+    // Empty stack means the item cannot be smelted
+    private final Map<Item, ItemStack> results = new ConcurrentHashMap<>();
+
+    private SmeltingResultCache(@Nullable RecipeManager recipeManager) {
+        this.recipeManager = recipeManager;
+    }
+
+    /**
+     * Gets the smelted version of the stack.
+     *
+     * @param stack The stack to smelt
+     * @param world The world
+     * @return A new stack containing the smelting result, or {@code stack} if it cannot be smelted
+     */
+    static ItemStack smelt(ItemStack stack, World world) {
+        ItemStack result;
+        if (stack.hasTag()) {
+            result = lookup(stack, world);
+        } else {
+            SmeltingResultCache cache = get(world.getRecipeManager());
+            result = cache.results.computeIfAbsent(stack.getItem(), item -> lookup(new ItemStack(item), world));
+        }
+
+        if (result.isEmpty()) {
+            return stack;
+        }
+        ItemStack ret = result.copy();
+        ret.setCount(stack.getCount() * result.getCount());
+        return ret;
+    }
+
+    private static SmeltingResultCache get(RecipeManager recipeManager) {
+        SmeltingResultCache cache = instance;
+        if (cache.recipeManager != recipeManager) {
+            cache = new SmeltingResultCache(recipeManager);
+            instance = cache;
+        }
+        return cache;
+    }
+
+    private static ItemStack lookup(ItemStack stack, World world) {
+        return world.getRecipeManager().getRecipe(IRecipeType.SMELTING, new Inventory(stack), world)
+                .map(FurnaceRecipe::getRecipeOutput)
+                .orElse(ItemStack.EMPTY);
+    }
+}
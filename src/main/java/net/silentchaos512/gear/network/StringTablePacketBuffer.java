@@ -0,0 +1,59 @@
+package net.silentchaos512.gear.network;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.PacketBuffer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A packet buffer which writes each distinct string only once. The first occurrence of a string is
+ * written in full and added to a table, later occurrences are written as a varint index into that
+ * table. Resource locations and text components are written as strings, so they are covered too.
+ * <p>
+ * Used for the login sync packets, where the same IDs, stat keys, and gear types are repeated
+ * across hundreds of materials, parts, and traits. Strings must be read back in exactly the order
+ * they were written, so a buffer should only be used to read or write a single packet.
+ */
+public class StringTablePacketBuffer extends PacketBuffer {
+    // Zero marks a new string, anything else is an index into the table plus one
+    private static final int NEW_STRING = 0;
+
+    private final Map<String, Integer> writtenStrings = new HashMap<>();
+    private final List<String> readStrings = new ArrayList<>();
+
+    public StringTablePacketBuffer(ByteBuf wrapped) {
+        super(wrapped);
+    }
+
+    @Override
+    public PacketBuffer writeString(String string, int maxLength) {
+        Integer index = this.writtenStrings.get(string);
+        if (index != null) {
+            this.writeVarInt(index + 1);
+            return this;
+        }
+
+        this.writeVarInt(NEW_STRING);
+        super.writeString(string, maxLength);
+        this.writtenStrings.put(string, this.writtenStrings.size());
+        return this;
+    }
+
+    @Override
+    public String readString(int maxLength) {
+        int ref = this.readVarInt();
+        if (ref != NEW_STRING) {
+            if (ref > this.readStrings.size()) {
+                throw new IllegalStateException("Invalid string table index " + (ref - 1) + ", table has " + this.readStrings.size() + " entries");
+            }
+            return this.readStrings.get(ref - 1);
+        }
+
+        String string = super.readString(maxLength);
+        this.readStrings.add(string);
+        return string;
+    }
+}
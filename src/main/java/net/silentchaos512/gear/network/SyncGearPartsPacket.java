@@ -21,8 +21,9 @@ public class SyncGearPartsPacket extends LoginPacket {
         this.parts = new ArrayList<>(parts);
     }
 
-    public static SyncGearPartsPacket fromBytes(PacketBuffer buf) {
-        SilentGear.LOGGER.debug("Gear parts packet: {} bytes", buf.readableBytes());
+    public static SyncGearPartsPacket fromBytes(PacketBuffer buffer) {
+        SilentGear.LOGGER.debug("Gear parts packet: {} bytes", buffer.readableBytes());
+        PacketBuffer buf = new StringTablePacketBuffer(buffer);
         SyncGearPartsPacket packet = new SyncGearPartsPacket();
         packet.parts = new ArrayList<>();
         int count = buf.readVarInt();
@@ -34,7 +35,8 @@ public class SyncGearPartsPacket extends LoginPacket {
         return packet;
     }
 
-    public void toBytes(PacketBuffer buf) {
+    public void toBytes(PacketBuffer buffer) {
+        PacketBuffer buf = new StringTablePacketBuffer(buffer);
         buf.writeVarInt(this.parts.size());
         this.parts.forEach(part -> PartSerializers.write(part, buf));
     }
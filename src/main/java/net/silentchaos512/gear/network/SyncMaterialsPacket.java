@@ -22,8 +22,9 @@ public class SyncMaterialsPacket extends LoginPacket {
         this.materials = new ArrayList<>(materials);
     }
 
-    public static SyncMaterialsPacket fromBytes(PacketBuffer buf) {
-        SilentGear.LOGGER.debug("Materials packet: {} bytes", buf.readableBytes());
+    public static SyncMaterialsPacket fromBytes(PacketBuffer buffer) {
+        SilentGear.LOGGER.debug("Materials packet: {} bytes", buffer.readableBytes());
+        PacketBuffer buf = new StringTablePacketBuffer(buffer);
         SyncMaterialsPacket packet = new SyncMaterialsPacket();
         packet.materials = new ArrayList<>();
         int count = buf.readVarInt();
@@ -35,7 +36,8 @@ public class SyncMaterialsPacket extends LoginPacket {
         return packet;
     }
 
-    public void toBytes(PacketBuffer buf) {
+    public void toBytes(PacketBuffer buffer) {
+        PacketBuffer buf = new StringTablePacketBuffer(buffer);
         buf.writeVarInt(this.materials.size());
         this.materials.forEach(mat -> MaterialSerializers.write(mat, buf));
     }
@@ -20,7 +20,8 @@ public class SyncTraitsPacket extends LoginPacket {
         this.traits = new ArrayList<>(traits);
     }
 
-    public static SyncTraitsPacket fromBytes(PacketBuffer buf) {
+    public static SyncTraitsPacket fromBytes(PacketBuffer buffer) {
+        PacketBuffer buf = new StringTablePacketBuffer(buffer);
         SyncTraitsPacket packet = new SyncTraitsPacket();
         packet.traits = new ArrayList<>();
         int count = buf.readVarInt();
@@ -32,7 +33,8 @@ public class SyncTraitsPacket extends LoginPacket {
         return packet;
     }
 
-    public void toBytes(PacketBuffer buf) {
+    public void toBytes(PacketBuffer buffer) {
+        PacketBuffer buf = new StringTablePacketBuffer(buffer);
         buf.writeVarInt(this.traits.size());
         this.traits.forEach(trait -> TraitSerializers.write(trait, buf));
     }
@@ -0,0 +1,128 @@
+package net.silentchaos512.gear.util;
+
+import com.google.gson.JsonParseException;
+import net.minecraft.resources.IResource;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.Util;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Reads and deserializes data pack files in parallel on the worker pool. Every file is loaded
+ * independently, and results are returned in the original order, so the caller can build its
+ * registry and report errors on a single thread, then publish it all at once.
+ * <p>
+ * Loaders must be thread-safe. Anything they look up (serializers, gear types, stats, categories)
+ * must be safe to read, or to cache into, from several threads at once.
+ */
+public final class DataFileLoader {
+    private DataFileLoader() {}
+
+    @FunctionalInterface
+    public interface FileLoader<T> {
+        /**
+         * Loads a single file.
+         *
+         * @param id       The file's resource location
+         * @param resource The opened resource
+         * @return The loaded object, or null if the file should be skipped (conditions not met,
+         * empty file, etc.)
+         * @throws IOException if the file cannot be read
+         */
+        @Nullable
+        T load(ResourceLocation id, IResource resource) throws IOException;
+    }
+
+    /**
+     * Loads all files in parallel and waits for them to finish.
+     *
+     * @param resourceManager The resource manager
+     * @param resources       Locations of the files to load
+     * @param loader          Loads a single file
+     * @param <T>             The type of object being loaded
+     * @return Results in the same order as {@code resources}
+     * @throws RuntimeException if a loader throws anything other than an IOException or a parsing
+     *                          error
+     */
+    public static <T> List<Result<T>> loadAll(IResourceManager resourceManager, Collection<ResourceLocation> resources, FileLoader<T> loader) {
+        List<CompletableFuture<Result<T>>> futures = new ArrayList<>(resources.size());
+        for (ResourceLocation id : resources) {
+            futures.add(CompletableFuture.supplyAsync(() -> load(resourceManager, id, loader), Util.getServerExecutor()));
+        }
+
+        List<Result<T>> ret = new ArrayList<>(futures.size());
+        for (CompletableFuture<Result<T>> future : futures) {
+            try {
+                ret.add(future.join());
+            } catch (CompletionException ex) {
+                // Rethrow unexpected errors as-is, as if the file was loaded on this thread
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw ex;
+            }
+        }
+        return ret;
+    }
+
+    private static <T> Result<T> load(IResourceManager resourceManager, ResourceLocation id, FileLoader<T> loader) {
+        String packName = "ERROR";
+        try (IResource resource = resourceManager.getResource(id)) {
+            packName = resource.getPackName();
+            return new Result<>(id, packName, loader.load(id, resource), null);
+        } catch (IOException | IllegalArgumentException | JsonParseException ex) {
+            return new Result<>(id, packName, null, ex);
+        }
+    }
+
+    public static final class Result<T> {
+        private final ResourceLocation id;
+        private final String packName;
+        @Nullable private final T value;
+        @Nullable private final Exception error;
+
+        private Result(ResourceLocation id, String packName, @Nullable T value, @Nullable Exception error) {
+            this.id = id;
+            this.packName = packName;
+            this.value = value;
+            this.error = error;
+        }
+
+        public ResourceLocation getId() {
+            return id;
+        }
+
+        public String getPackName() {
+            return packName;
+        }
+
+        /**
+         * Gets the loaded object.
+         *
+         * @return The object, or null if the file was skipped or failed to load
+         */
+        @Nullable
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * Gets the exception thrown while loading the file, if any. An {@link IOException} means
+         * the file could not be read, anything else ({@link IllegalArgumentException} or {@link
+         * JsonParseException}) is a parsing error.
+         *
+         * @return The exception, or null if the file loaded (or was skipped) normally
+         */
+        @Nullable
+        public Exception getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package net.silentchaos512.gear.util;
+
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.inventory.EquipmentSlotType;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.common.Mod;
+import net.silentchaos512.gear.SilentGear;
+import net.silentchaos512.gear.api.traits.ITrait;
+import net.silentchaos512.gear.compat.curios.CuriosCompat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The highest level of each trait a player has equipped, grouped by slot. Indices are rebuilt
+ * only after the player's equipment (or curios) change, so per-tick trait checks do not need to
+ * look at every equipped item. Only used on the server.
+ */
+@Mod.EventBusSubscriber(modid = SilentGear.MOD_ID)
+public final class EquippedTraitIndex {
+    public enum SlotGroup {
+        MAINHAND, OFFHAND, FEET, LEGS, CHEST, HEAD, CURIO;
+
+        public static SlotGroup of(EquipmentSlotType slot) {
+            switch (slot) {
+                case MAINHAND:
+                    return MAINHAND;
+                case OFFHAND:
+                    return OFFHAND;
+                case FEET:
+                    return FEET;
+                case LEGS:
+                    return LEGS;
+                case CHEST:
+                    return CHEST;
+                default:
+                    return HEAD;
+            }
+        }
+    }
+
+    private static final int GROUP_COUNT = SlotGroup.values().length;
+    private static final Map<PlayerEntity, EquippedTraitIndex> INDICES = new WeakHashMap<>();
+
+    // Highest level in each slot group, or -1 if the trait is not present
+    private final Map<ResourceLocation, int[]> levels = new HashMap<>();
+    private boolean dirty = true;
+
+    private EquippedTraitIndex() {}
+
+    /**
+     * Gets the index for the player, rebuilding it first if the player's equipment has changed.
+     *
+     * @param player The player
+     * @return The player's equipped trait index
+     */
+    public static EquippedTraitIndex get(PlayerEntity player) {
+        EquippedTraitIndex index = INDICES.computeIfAbsent(player, p -> new EquippedTraitIndex());
+        if (index.dirty) {
+            index.rebuild(player);
+        }
+        return index;
+    }
+
+    /**
+     * Forces the player's index to be rebuilt the next time it is used.
+     *
+     * @param player The player
+     */
+    public static void markDirty(PlayerEntity player) {
+        EquippedTraitIndex index = INDICES.get(player);
+        if (index != null) {
+            index.dirty = true;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEquipmentChange(LivingEquipmentChangeEvent event) {
+        if (event.getEntityLiving() instanceof PlayerEntity && !event.getEntityLiving().world.isRemote) {
+            markDirty((PlayerEntity) event.getEntityLiving());
+        }
+    }
+
+    private void rebuild(PlayerEntity player) {
+        this.levels.clear();
+        this.dirty = false;
+
+        for (EquipmentSlotType slot : EquipmentSlotType.values()) {
+            add(player.getItemStackFromSlot(slot), SlotGroup.of(slot));
+        }
+        if (ModList.get().isLoaded(Const.CURIOS)) {
+            for (ItemStack stack : CuriosCompat.getEquippedCurios(player)) {
+                add(stack, SlotGroup.CURIO);
+            }
+        }
+    }
+
+    private void add(ItemStack stack, SlotGroup group) {
+        if (!GearHelper.isGear(stack)) return;
+
+        GearSnapshot.of(stack).getTraitLevelsById().forEach((traitId, level) -> {
+            int[] array = this.levels.computeIfAbsent(traitId, id -> newLevelArray());
+            array[group.ordinal()] = Math.max(array[group.ordinal()], level);
+        });
+    }
+
+    private static int[] newLevelArray() {
+        int[] array = new int[GROUP_COUNT];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = -1;
+        }
+        return array;
+    }
+
+    public boolean hasTrait(DataResource<ITrait> trait, SlotGroup group) {
+        int[] array = this.levels.get(trait.getId());
+        return array != null && array[group.ordinal()] >= 0;
+    }
+
+    public int getLevel(DataResource<ITrait> trait, SlotGroup group) {
+        int[] array = this.levels.get(trait.getId());
+        return array != null ? Math.max(0, array[group.ordinal()]) : 0;
+    }
+
+    public int getHighestLevelEitherHand(DataResource<ITrait> trait) {
+        return Math.max(getLevel(trait, SlotGroup.MAINHAND), getLevel(trait, SlotGroup.OFFHAND));
+    }
+
+    public int getHighestLevelArmor(DataResource<ITrait> trait) {
+        return Math.max(Math.max(getLevel(trait, SlotGroup.HEAD), getLevel(trait, SlotGroup.CHEST)),
+                Math.max(getLevel(trait, SlotGroup.LEGS), getLevel(trait, SlotGroup.FEET)));
+    }
+
+    public boolean hasTraitArmor(DataResource<ITrait> trait) {
+        return hasTrait(trait, SlotGroup.HEAD)
+                || hasTrait(trait, SlotGroup.CHEST)
+                || hasTrait(trait, SlotGroup.LEGS)
+                || hasTrait(trait, SlotGroup.FEET);
+    }
+}
@@ -1,5 +1,8 @@
 package net.silentchaos512.gear.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import net.minecraft.crash.CrashReport;
 import net.minecraft.crash.CrashReportCategory;
 import net.minecraft.crash.ReportedException;
@@ -24,6 +27,7 @@ import net.silentchaos512.gear.api.part.PartType;
 import net.silentchaos512.gear.api.stats.*;
 import net.silentchaos512.gear.api.traits.ITrait;
 import net.silentchaos512.gear.api.traits.TraitActionContext;
+import net.silentchaos512.gear.api.traits.TraitHook;
 import net.silentchaos512.gear.api.util.StatGearKey;
 import net.silentchaos512.gear.compat.curios.CuriosCompat;
 import net.silentchaos512.gear.config.Config;
@@ -38,6 +42,7 @@ import net.silentchaos512.lib.util.NameUtils;
 import net.silentchaos512.utils.Color;
 
 import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Predicate;
 
@@ -57,6 +62,7 @@ public final class GearData {
     private static final String NBT_LOCK_STATS = "LockStats";
     private static final String NBT_IS_EXAMPLE = "IsExample";
     private static final String NBT_MODEL_KEY = "ModelKey";
+    private static final String NBT_MODEL_HASH = "ModelHash";
     private static final String NBT_SYNERGY = "synergy";
     private static final String NBT_TIER = "Tier";
     private static final String NBT_UUID = "SGear_UUID";
@@ -65,6 +71,21 @@ public final class GearData {
     private static final String NBT_REPAIR_COUNT = "RepairCount";
     private static final String NBT_STATS = "Stats";
 
+    // Weak keys are compared by identity, like GearSnapshot's cache
+    private static final Cache<ListNBT, DamageListenerIndices> DAMAGE_LISTENER_INDICES = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+    private static final ClassValue<Boolean> OVERRIDES_ON_GEAR_DAMAGED = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("onGearDamaged", PartData.class, ItemStack.class, int.class).getDeclaringClass() != IGearPart.class;
+            } catch (NoSuchMethodException ex) {
+                return false;
+            }
+        }
+    };
+
     private GearData() {
         throw new IllegalAccessError("Utility class");
     }
@@ -89,7 +110,7 @@ public final class GearData {
      *               player during crafting.
      */
     public static void recalculateStats(ItemStack gear, @Nullable PlayerEntity player) {
-        try {
+        try (RecalculationContext ignored = RecalculationContext.open()) {
             tryRecalculateStats(gear, player);
         } catch (Throwable ex) {
             CrashReport report = CrashReport.makeCrashReport(ex, "Failed to recalculate gear properties");
@@ -108,7 +129,7 @@ public final class GearData {
 
         getUUID(gear);
 
-        TraitHelper.activateTraits(gear, 0f, (trait, level, value) -> {
+        TraitHelper.activateTraits(gear, 0f, TraitHook.RECALCULATE_PRE, (trait, level, value) -> {
             trait.onRecalculatePre(new TraitActionContext(player, level, gear));
             return 0f;
         });
@@ -132,7 +153,7 @@ public final class GearData {
             Map<ITrait, Integer> traits = TraitHelper.getTraits(gear, parts);
 
             // Get all stat modifiers from all parts and item class modifiers
-            StatModifierMap stats = getStatModifiers(gear, item, parts);
+            StatVector stats = getStatVector(gear, item, parts);
 
             // For debugging
             Map<ItemStat, Float> oldStatValues = getCurrentStatsForDebugging(gear);
@@ -140,14 +161,12 @@ public final class GearData {
             // Calculate and write stats
             final float damageRatio = (float) gear.getDamage() / (float) gear.getMaxDamage();
             CompoundNBT statsCompound = new CompoundNBT();
-            for (ItemStat stat : stats.getStats()) {
-                StatGearKey key = StatGearKey.of(stat, item.getGearType());
-                Collection<StatInstance> modifiers = stats.get(key);
-                GearType statGearType = stats.getMostSpecificKey(key).getGearType();
+            for (ItemStat stat : ItemStats.allStatsOrdered()) {
+                if (!stats.hasStat(stat)) continue;
 
-                final float initialValue = stat.compute(stat.getBaseValue(), true, item.getGearType(), statGearType, modifiers);
+                final float initialValue = stats.compute(stat, stat.getBaseValue());
                 // Allow traits to modify stat
-                final float withTraits = TraitHelper.activateTraits(gear, initialValue, (trait, level, val) -> {
+                final float withTraits = TraitHelper.activateTraits(gear, initialValue, TraitHook.GET_STAT, (trait, level, val) -> {
                     TraitActionContext context = new TraitActionContext(player, level, gear);
                     return trait.onGetStat(context, stat, val, damageRatio);
                 });
@@ -167,12 +186,13 @@ public final class GearData {
             ListNBT traitList = new ListNBT();
             traits.forEach((trait, level) -> traitList.add(trait.write(level)));
             propertiesCompound.put("Traits", traitList);
+            GearSnapshot.invalidate(gear);
 
             propertiesCompound.remove(NBT_SYNERGY);
 
             // Remove trait-added enchantments then let traits re-add them
             EnchantmentTrait.removeTraitEnchantments(gear);
-            TraitHelper.activateTraits(gear, 0f, (trait, level, value) -> {
+            TraitHelper.activateTraits(gear, 0f, TraitHook.RECALCULATE_POST, (trait, level, value) -> {
                 trait.onRecalculatePost(new TraitActionContext(player, level, gear));
                 return 0f;
             });
@@ -196,14 +216,15 @@ public final class GearData {
         return null;
     }
 
-    private static void printStatsForDebugging(ItemStack stack, StatModifierMap stats, @Nullable Map<ItemStat, Float> oldStats) {
+    private static void printStatsForDebugging(ItemStack stack, StatVector stats, @Nullable Map<ItemStat, Float> oldStats) {
         // Prints stats that have changed for debugging purposes
         if (oldStats != null && SilentGear.LOGGER.isDebugEnabled()) {
-            GearType gearType = GearHelper.getType(stack);
             Map<ItemStat, Float> newStats = getCurrentStatsForDebugging(stack);
             assert newStats != null;
 
-            for (ItemStat stat : stats.getStats()) {
+            for (ItemStat stat : ItemStats.allStatsOrdered()) {
+                if (!stats.hasStat(stat)) continue;
+
                 float oldValue = oldStats.get(stat);
                 float newValue = newStats.get(stat);
                 float change = newValue - oldValue;
@@ -212,7 +233,7 @@ public final class GearData {
                         oldValue,
                         newValue,
                         change < 0 ? change : "+" + change,
-                        StatModifierMap.formatText(stats.get(stat, gearType), stat, 5).getString()
+                        StatModifierMap.formatText(stats.getModifiers(stat), stat, 5).getString()
                 );
             }
         }
@@ -232,6 +253,26 @@ public final class GearData {
         return animationFrame > 0 ? key + "_" + animationFrame : key;
     }
 
+    /**
+     * Gets a 64-bit hash of the gear's model key, for use as a cache key when rendering. The hash
+     * is computed when stats are recalculated, so this does not normally build any strings.
+     *
+     * @param stack The gear item
+     * @return The model key hash
+     */
+    public static long getModelHash(ItemStack stack) {
+        CompoundNBT nbt = getData(stack, NBT_ROOT_RENDERING);
+        if (nbt.contains(NBT_MODEL_HASH, Constants.NBT.TAG_LONG)) {
+            return nbt.getLong(NBT_MODEL_HASH);
+        }
+        // Item has not been recalculated since model hashes were added
+        return hashModelKey(getModelKey(stack, 0));
+    }
+
+    private static long hashModelKey(String modelKey) {
+        return Hashing.murmur3_128().hashString(modelKey, StandardCharsets.UTF_8).asLong();
+    }
+
     private static String calculateModelKey(ItemStack stack, Collection<? extends IPartData> parts) {
         StringBuilder s = new StringBuilder(SilentGear.shortenId(NameUtils.fromItem(stack)) + ":");
 
@@ -249,7 +290,9 @@ public final class GearData {
         nbt.remove("ArmorColor");
         nbt.remove("BlendedHeadColor");
 
-        nbt.putString(NBT_MODEL_KEY, calculateModelKey(stack, parts));
+        String modelKey = calculateModelKey(stack, parts);
+        nbt.putString(NBT_MODEL_KEY, modelKey);
+        nbt.putLong(NBT_MODEL_HASH, hashModelKey(modelKey));
 
         // Remove old model keys
         stack.getOrCreateChildTag(NBT_ROOT).remove("ModelKeys");
@@ -267,10 +310,32 @@ public final class GearData {
         return stats;
     }
 
+    /**
+     * Gets all stat modifiers from all parts, bucketed for fast stat calculation. Unlike {@link
+     * #getStatModifiers(ItemStack, ICoreItem, PartDataList)}, modifiers are not copied.
+     *
+     * @param stack The gear item
+     * @param item  The gear item's item
+     * @param parts The gear's construction parts
+     * @return A stat vector containing all modifiers
+     */
+    private static StatVector getStatVector(ItemStack stack, ICoreItem item, PartDataList parts) {
+        GearType gearType = item.getGearType();
+        StatVector stats = new StatVector(gearType);
+        for (ItemStat stat : ItemStats.allStatsOrderedExcluding(item.getExcludedStats(stack))) {
+            StatGearKey itemKey = StatGearKey.of(stat, gearType);
+            for (PartData part : parts) {
+                for (StatInstance mod : part.getStatModifiers(itemKey, stack)) {
+                    stats.add(mod);
+                }
+            }
+        }
+        return stats;
+    }
+
     public static float getStat(ItemStack stack, IItemStat stat) {
-        CompoundNBT tags = getData(stack, NBT_ROOT_PROPERTIES).getCompound(NBT_STATS);
-        String key = stat.getStatId().toString();
-        return tags.contains(key) ? tags.getFloat(key) : stat.getDefaultValue();
+        // Snapshot of a non-gear item is empty, so it returns the default value
+        return GearSnapshot.of(stack).getStat(stat);
     }
 
     public static int getStatInt(ItemStack stack, IItemStat stat) {
@@ -306,6 +371,61 @@ public final class GearData {
         return list;
     }
 
+    /**
+     * Gets the construction parts which override {@link IGearPart#onGearDamaged}. Which entries of
+     * the parts list those are is cached on the identity of the list (it is replaced whenever parts
+     * are written), so for most gear this does not decode any parts. The matching parts themselves
+     * are always read fresh, in case they store data in the list.
+     *
+     * @param stack The gear item
+     * @return The parts which react to durability damage, in construction order
+     */
+    public static List<PartData> getPartsReactingToDamage(ItemStack stack) {
+        if (!GearHelper.isGear(stack)) return Collections.emptyList();
+
+        ListNBT tagList = getData(stack, NBT_ROOT_CONSTRUCTION).getList(NBT_CONSTRUCTION_PARTS, Constants.NBT.TAG_COMPOUND);
+        if (tagList.isEmpty()) return Collections.emptyList();
+
+        DamageListenerIndices indices = DAMAGE_LISTENER_INDICES.getIfPresent(tagList);
+        if (indices == null || !indices.isValidFor(tagList)) {
+            indices = new DamageListenerIndices(tagList);
+            DAMAGE_LISTENER_INDICES.put(tagList, indices);
+        }
+        if (indices.indices.length == 0) return Collections.emptyList();
+
+        List<PartData> ret = new ArrayList<>(indices.indices.length);
+        for (int i : indices.indices) {
+            PartData part = PartData.read(tagList.getCompound(i));
+            if (part != null) {
+                ret.add(part);
+            }
+        }
+        return ret;
+    }
+
+    private static final class DamageListenerIndices {
+        // Registry collections are replaced on every reload, so their identity works as a version
+        private final Collection<?> parts = PartManager.getValues();
+        private final int size;
+        private final int[] indices;
+
+        private DamageListenerIndices(ListNBT tagList) {
+            this.size = tagList.size();
+            List<Integer> list = new ArrayList<>();
+            for (int i = 0; i < tagList.size(); ++i) {
+                IGearPart part = PartManager.get(tagList.getCompound(i).getString(PartData.NBT_ID));
+                if (part != null && OVERRIDES_ON_GEAR_DAMAGED.get(part.getClass())) {
+                    list.add(i);
+                }
+            }
+            this.indices = list.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private boolean isValidFor(ListNBT tagList) {
+            return this.parts == PartManager.getValues() && this.size == tagList.size();
+        }
+    }
+
     @Deprecated
     public static float getSynergyDisplayValue(ItemStack gear) {
         return 0;
@@ -644,6 +764,18 @@ public final class GearData {
         return tags.getUniqueId(NBT_UUID);
     }
 
+    /**
+     * Gives the item a new random UUID, replacing the existing one. Used on copies of gear which
+     * must not share an ID with the original.
+     *
+     * @param gear ItemStack of an ICoreItem
+     */
+    public static void regenerateUUID(ItemStack gear) {
+        if (checkNonGearItem(gear, "regenerateUUID")) return;
+
+        gear.getOrCreateTag().putUniqueId(NBT_UUID, UUID.randomUUID());
+    }
+
     private static CompoundNBT getData(ItemStack gear, String compoundKey) {
         if (checkNonGearItem(gear, "getData")) return new CompoundNBT();
 
@@ -1,5 +1,8 @@
 package net.silentchaos512.gear.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import net.minecraft.block.BlockState;
@@ -40,6 +43,7 @@ import net.silentchaos512.gear.api.stats.ItemStat;
 import net.silentchaos512.gear.api.stats.ItemStats;
 import net.silentchaos512.gear.api.traits.ITrait;
 import net.silentchaos512.gear.api.traits.TraitActionContext;
+import net.silentchaos512.gear.api.traits.TraitHook;
 import net.silentchaos512.gear.config.Config;
 import net.silentchaos512.gear.crafting.ingredient.IPartIngredient;
 import net.silentchaos512.gear.gear.material.MaterialInstance;
@@ -49,10 +53,12 @@ import net.silentchaos512.lib.advancements.LibTriggers;
 
 import javax.annotation.Nullable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Contains various methods used by gear items. Many are delegates for item overrides, to cut down
@@ -67,6 +73,12 @@ public final class GearHelper {
     private static final float BROKEN_ATTACK_SPEED_CHANGE = 0.7f;
     private static final float BROKEN_DESTROY_SPEED = 0.25f;
 
+    // Computed attribute modifiers by snapshot. A new snapshot is created whenever stats or traits
+    // are recalculated, so old entries simply become unreachable.
+    private static final Cache<GearSnapshot, Map<String, Multimap<Attribute, AttributeModifier>>> ATTRIBUTE_MODIFIER_CACHE = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
     private GearHelper() {}
 
     public static Optional<ICoreItem> getItem(ItemStack gear) {
@@ -119,10 +131,42 @@ public final class GearHelper {
     }
 
     public static Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlotType slot, ItemStack stack, boolean addStandardMainHandMods) {
-        // Need to use this version to prevent stack overflow
-        @SuppressWarnings("deprecation") Multimap<Attribute, AttributeModifier> map = LinkedHashMultimap.create(stack.getItem().getAttributeModifiers(slot));
+        String key = addStandardMainHandMods ? slot.getName() : slot.getName() + "/no_standard_mods";
+        return getCachedAttributeModifiers(stack, key, () -> {
+            // Need to use this version to prevent stack overflow
+            @SuppressWarnings("deprecation") Multimap<Attribute, AttributeModifier> map = LinkedHashMultimap.create(stack.getItem().getAttributeModifiers(slot));
 
-        return getAttributeModifiers(slot, stack, map, addStandardMainHandMods);
+            return getAttributeModifiers(slot, stack, map, addStandardMainHandMods);
+        });
+    }
+
+    /**
+     * Gets attribute modifiers for a gear item, computing them only if the item's stats, traits, or
+     * broken state have changed since the last call with the same key. The returned multimap is
+     * immutable and shared, so callers must copy it before making changes.
+     *
+     * @param stack   The gear item
+     * @param key     Identifies the slot and anything else (besides stats, traits, and broken
+     *                state) which changes the result
+     * @param factory Computes the modifiers if they are not cached
+     * @return An immutable multimap of attribute modifiers
+     */
+    public static Multimap<Attribute, AttributeModifier> getCachedAttributeModifiers(ItemStack stack, String key, Supplier<Multimap<Attribute, AttributeModifier>> factory) {
+        if (!isGear(stack)) {
+            return ImmutableMultimap.copyOf(factory.get());
+        }
+
+        Map<String, Multimap<Attribute, AttributeModifier>> cache = ATTRIBUTE_MODIFIER_CACHE.asMap()
+                .computeIfAbsent(GearSnapshot.of(stack), snapshot -> new ConcurrentHashMap<>());
+        String fullKey = isBroken(stack) ? key + "/broken" : key;
+
+        Multimap<Attribute, AttributeModifier> modifiers = cache.get(fullKey);
+        if (modifiers == null) {
+            // Not using computeIfAbsent, the factory could request other modifiers for the same item
+            modifiers = ImmutableMultimap.copyOf(factory.get());
+            cache.put(fullKey, modifiers);
+        }
+        return modifiers;
     }
 
     public static Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlotType slot, ItemStack stack, Multimap<Attribute, AttributeModifier> map) {
@@ -149,7 +193,7 @@ public final class GearHelper {
             });
         }
 
-        TraitHelper.getCachedTraits(stack).forEach((trait, level) -> trait.onGetAttributeModifiers(new TraitActionContext(null, level, stack), map, slot));
+        TraitHelper.getCachedTraits(stack, TraitHook.GET_ATTRIBUTE_MODIFIERS).forEach((trait, level) -> trait.onGetAttributeModifiers(new TraitActionContext(null, level, stack), map, slot));
 
         return map;
     }
@@ -204,7 +248,7 @@ public final class GearHelper {
 
         ServerPlayerEntity player = entity instanceof ServerPlayerEntity ? (ServerPlayerEntity) entity : null;
         final int preTraitAmount = amount;
-        amount = (int) TraitHelper.activateTraits(stack, preTraitAmount, (trait, level, val) ->
+        amount = (int) TraitHelper.activateTraits(stack, preTraitAmount, TraitHook.DURABILITY_DAMAGE, (trait, level, val) ->
                 trait.onDurabilityDamage(new TraitActionContext(player, level, stack), (int) val));
 
         final int maxDamage = stack.getMaxDamage();
@@ -295,7 +339,7 @@ public final class GearHelper {
     }
 
     private static boolean canBreakPermanently(ItemStack stack) {
-        return Config.Common.gearBreaksPermanently.get() || TraitHelper.hasTrait(stack, Const.Traits.RED_CARD);
+        return Config.Common.gearBreaksPermanently.get() || GearSnapshot.of(stack).hasRedCard();
     }
 
     public static boolean isBroken(ItemStack stack) {
@@ -307,7 +351,7 @@ public final class GearHelper {
     }
 
     public static boolean isUnbreakable(ItemStack stack) {
-        return TraitHelper.getTraitLevel(stack, Const.Traits.INDESTRUCTIBLE) > 0;
+        return GearSnapshot.of(stack).isIndestructible();
     }
 
     public static void setDamage(ItemStack stack, int damage, BiConsumer<ItemStack, Integer> superFunction) {
@@ -335,14 +379,17 @@ public final class GearHelper {
             preTraitValue = amount;
         }
 
-        final int value = (int) TraitHelper.activateTraits(stack, preTraitValue, (trait, level, val) ->
+        final int value = (int) TraitHelper.activateTraits(stack, preTraitValue, TraitHook.DURABILITY_DAMAGE, (trait, level, val) ->
                 trait.onDurabilityDamage(new TraitActionContext(null, level, stack), (int) val));
         GearHelper.damageParts(stack, value);
         return value;
     }
 
     private static void damageParts(ItemStack stack, int amount) {
-        GearData.getConstructionParts(stack).forEach(p -> p.get().onGearDamaged(p, stack, amount));
+        // Usually no parts react to damage, so this avoids decoding the parts at all
+        for (PartData part : GearData.getPartsReactingToDamage(stack)) {
+            part.get().onGearDamaged(part, stack, amount);
+        }
     }
 
     //endregion
@@ -463,7 +510,7 @@ public final class GearHelper {
 
     public static ActionResultType onItemUse(ItemUseContext context) {
         ActionResultType ret = ActionResultType.PASS;
-        Map<ITrait, Integer> traits = TraitHelper.getCachedTraits(context.getItem());
+        Map<ITrait, Integer> traits = TraitHelper.getCachedTraits(context.getItem(), TraitHook.ITEM_USE);
         for (Map.Entry<ITrait, Integer> entry : traits.entrySet()) {
             ActionResultType result = entry.getKey().onItemUse(context, entry.getValue());
             if (result != ActionResultType.PASS) {
@@ -481,7 +528,7 @@ public final class GearHelper {
             return;
         }
 
-        Map<ITrait, Integer> traits = TraitHelper.getCachedTraits(stack);
+        Map<ITrait, Integer> traits = TraitHelper.getCachedTraits(stack, TraitHook.ITEM_SWING);
         for (Map.Entry<ITrait, Integer> entry : traits.entrySet()) {
             entry.getKey().onItemSwing(stack, wielder, entry.getValue());
         }
@@ -0,0 +1,331 @@
+package net.silentchaos512.gear.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.util.Constants;
+import net.silentchaos512.gear.api.stats.IItemStat;
+import net.silentchaos512.gear.api.stats.ItemStat;
+import net.silentchaos512.gear.api.stats.ItemStats;
+import net.silentchaos512.gear.api.traits.ITrait;
+import net.silentchaos512.gear.api.traits.TraitHook;
+import net.silentchaos512.gear.gear.trait.TraitManager;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * A decoded, immutable view of the stats and traits stored in a gear item's properties NBT.
+ * Snapshots are cached on the identity of the properties compound, so repeated reads of the same
+ * stack (event handlers, ticking, rendering) do not need to walk the NBT again.
+ * <p>
+ * A snapshot is considered stale if the stats compound or traits list it was decoded from has been
+ * replaced (which is what {@link GearData#recalculateStats} does), or if it was explicitly
+ * invalidated. All snapshots are dropped when traits are reloaded or synced.
+ * <p>
+ * Traits are also grouped by the {@link TraitHook hooks} they respond to, so hot paths (attacking,
+ * durability damage, ticking) only visit the traits which do something.
+ */
+public final class GearSnapshot {
+    private static final String NBT_STATS = "Stats";
+    private static final String NBT_TRAITS = "Traits";
+
+    private static final int HOOK_COUNT = TraitHook.values().length;
+
+    private static final GearSnapshot EMPTY = new GearSnapshot(null, null, new float[0], new boolean[0],
+            ImmutableMap.of(), new ITrait[0], new int[0], ImmutableMap.of());
+
+    // Weak keys are compared by identity, which is exactly what we want here
+    private static final Cache<CompoundNBT, GearSnapshot> CACHE = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    @Nullable private final INBT statsTag;
+    @Nullable private final INBT traitsTag;
+    private final float[] statValues;
+    private final boolean[] statPresent;
+    private final Map<ResourceLocation, Integer> traitLevelsById;
+    private final ITrait[] traits;
+    private final int[] traitLevels;
+    private final Map<ITrait, Integer> traitMap;
+    // Trait entries and trait maps filtered by hook, indexed by hook ordinal
+    private final ITrait[][] hookTraits;
+    private final int[][] hookTraitLevels;
+    private final List<Map<ITrait, Integer>> hookTraitMaps;
+    // Traits checked on every point of durability damage
+    private final boolean indestructible;
+    private final boolean redCard;
+
+    private GearSnapshot(@Nullable INBT statsTag,
+                         @Nullable INBT traitsTag,
+                         float[] statValues,
+                         boolean[] statPresent,
+                         Map<ResourceLocation, Integer> traitLevelsById,
+                         ITrait[] traits,
+                         int[] traitLevels,
+                         Map<ITrait, Integer> traitMap) {
+        this.statsTag = statsTag;
+        this.traitsTag = traitsTag;
+        this.statValues = statValues;
+        this.statPresent = statPresent;
+        this.traitLevelsById = traitLevelsById;
+        this.traits = traits;
+        this.traitLevels = traitLevels;
+        this.traitMap = traitMap;
+
+        this.indestructible = getTraitLevel(Const.Traits.INDESTRUCTIBLE.getId()) > 0;
+        this.redCard = hasTrait(Const.Traits.RED_CARD.getId());
+
+        this.hookTraits = new ITrait[HOOK_COUNT][];
+        this.hookTraitLevels = new int[HOOK_COUNT][];
+        this.hookTraitMaps = new ArrayList<>(HOOK_COUNT);
+        for (TraitHook hook : TraitHook.values()) {
+            buildHook(hook);
+        }
+    }
+
+    private void buildHook(TraitHook hook) {
+        List<ITrait> list = new ArrayList<>();
+        List<Integer> levels = new ArrayList<>();
+        for (int i = 0; i < this.traits.length; ++i) {
+            if (this.traits[i].getHooks().contains(hook)) {
+                list.add(this.traits[i]);
+                levels.add(this.traitLevels[i]);
+            }
+        }
+        this.hookTraits[hook.ordinal()] = list.toArray(new ITrait[0]);
+        this.hookTraitLevels[hook.ordinal()] = levels.stream().mapToInt(Integer::intValue).toArray();
+
+        Map<ITrait, Integer> map = new LinkedHashMap<>();
+        this.traitMap.forEach((trait, level) -> {
+            if (trait.getHooks().contains(hook)) {
+                map.put(trait, level);
+            }
+        });
+        this.hookTraitMaps.add(Collections.unmodifiableMap(map));
+    }
+
+    /**
+     * Gets the snapshot for the gear item, decoding it from NBT only if there is no valid cached
+     * snapshot.
+     *
+     * @param gear The gear item
+     * @return The snapshot, or an empty snapshot if the item is not gear
+     */
+    public static GearSnapshot of(ItemStack gear) {
+        if (!GearHelper.isGear(gear)) return EMPTY;
+
+        CompoundNBT properties = GearData.getPropertiesData(gear);
+        GearSnapshot snapshot = CACHE.getIfPresent(properties);
+        if (snapshot == null || !snapshot.isValidFor(properties)) {
+            snapshot = decode(properties);
+            CACHE.put(properties, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Discards the cached snapshot of the gear item, if any. Call this after modifying the stats
+     * or traits NBT in place.
+     *
+     * @param gear The gear item
+     */
+    public static void invalidate(ItemStack gear) {
+        if (GearHelper.isGear(gear) && gear.hasTag()) {
+            CACHE.invalidate(GearData.getPropertiesData(gear));
+        }
+    }
+
+    /**
+     * Discards all cached snapshots. Called when traits are reloaded, because snapshots hold
+     * references to trait objects.
+     */
+    public static void invalidateAll() {
+        CACHE.invalidateAll();
+    }
+
+    private boolean isValidFor(CompoundNBT properties) {
+        return properties.get(NBT_STATS) == statsTag && properties.get(NBT_TRAITS) == traitsTag;
+    }
+
+    private static GearSnapshot decode(CompoundNBT properties) {
+        INBT statsTag = properties.get(NBT_STATS);
+        INBT traitsTag = properties.get(NBT_TRAITS);
+
+        // Stats
+        Collection<ItemStat> allStats = ItemStats.allStatsOrdered();
+        float[] statValues = new float[allStats.size()];
+        boolean[] statPresent = new boolean[allStats.size()];
+        if (statsTag instanceof CompoundNBT) {
+            CompoundNBT statsCompound = (CompoundNBT) statsTag;
+            for (ItemStat stat : allStats) {
+                ResourceLocation statId = stat.getRegistryName();
+                if (statId != null) {
+                    String key = statId.toString();
+                    if (statsCompound.contains(key)) {
+                        statValues[stat.getOrdinal()] = statsCompound.getFloat(key);
+                        statPresent[stat.getOrdinal()] = true;
+                    }
+                }
+            }
+        }
+
+        // Traits
+        Map<ResourceLocation, Integer> traitLevelsById = new HashMap<>();
+        List<ITrait> traits = new ArrayList<>();
+        List<Integer> traitLevels = new ArrayList<>();
+        Map<ITrait, Integer> traitMap = new LinkedHashMap<>();
+        if (traitsTag instanceof ListNBT && ((ListNBT) traitsTag).getTagType() == Constants.NBT.TAG_COMPOUND) {
+            for (INBT nbt : (ListNBT) traitsTag) {
+                CompoundNBT tagCompound = (CompoundNBT) nbt;
+                ResourceLocation traitId = ResourceLocation.tryCreate(tagCompound.getString("Name"));
+                if (traitId == null) continue;
+
+                int level = tagCompound.getByte("Level");
+                traitLevelsById.putIfAbsent(traitId, level);
+
+                ITrait trait = TraitManager.get(traitId);
+                if (trait != null) {
+                    traits.add(trait);
+                    traitLevels.add(level);
+                    if (level > 0) {
+                        traitMap.put(trait, level);
+                    }
+                }
+            }
+        }
+
+        return new GearSnapshot(statsTag,
+                traitsTag,
+                statValues,
+                statPresent,
+                Collections.unmodifiableMap(traitLevelsById),
+                traits.toArray(new ITrait[0]),
+                traitLevels.stream().mapToInt(Integer::intValue).toArray(),
+                Collections.unmodifiableMap(traitMap));
+    }
+
+    public float getStat(IItemStat stat) {
+        ItemStat itemStat = stat instanceof ItemStat ? (ItemStat) stat : ItemStats.get(stat);
+        if (itemStat != null && itemStat.getRegistryName() != null) {
+            int index = itemStat.getOrdinal();
+            if (index < statPresent.length && statPresent[index]) {
+                return statValues[index];
+            }
+            return stat.getDefaultValue();
+        }
+
+        // Stat is not registered, fall back to NBT
+        String key = stat.getStatId().toString();
+        if (statsTag instanceof CompoundNBT && ((CompoundNBT) statsTag).contains(key)) {
+            return ((CompoundNBT) statsTag).getFloat(key);
+        }
+        return stat.getDefaultValue();
+    }
+
+    /**
+     * Gets the level of the trait as stored in NBT. The trait does not need to be loaded.
+     *
+     * @param traitId The trait ID
+     * @return The trait level, or zero if not present
+     */
+    public int getTraitLevel(ResourceLocation traitId) {
+        Integer level = traitLevelsById.get(traitId);
+        return level != null ? level : 0;
+    }
+
+    public boolean hasTrait(ResourceLocation traitId) {
+        return traitLevelsById.containsKey(traitId);
+    }
+
+    /**
+     * Whether the gear has the indestructible trait, making it immune to durability damage.
+     *
+     * @return True if the indestructible trait is present with a level above zero
+     */
+    public boolean isIndestructible() {
+        return indestructible;
+    }
+
+    /**
+     * Whether the gear has the red card trait, which makes it break permanently.
+     *
+     * @return True if the red card trait is present
+     */
+    public boolean hasRedCard() {
+        return redCard;
+    }
+
+    /**
+     * Gets the levels of all traits stored in NBT by ID, including traits which are not loaded.
+     * The returned map is unmodifiable.
+     *
+     * @return Map of trait IDs to levels
+     */
+    public Map<ResourceLocation, Integer> getTraitLevelsById() {
+        return traitLevelsById;
+    }
+
+    /**
+     * Gets all loaded traits and their levels, excluding any with a level of zero. The returned map
+     * is unmodifiable.
+     *
+     * @return Map of traits to levels
+     */
+    public Map<ITrait, Integer> getTraits() {
+        return traitMap;
+    }
+
+    /**
+     * Number of loaded trait entries, for use with {@link #getTrait(int)} and {@link
+     * #getTraitLevel(int)}. This matches the order and duplicates of the NBT list.
+     *
+     * @return The number of resolved trait entries
+     */
+    public int getTraitCount() {
+        return traits.length;
+    }
+
+    public ITrait getTrait(int index) {
+        return traits[index];
+    }
+
+    public int getTraitLevel(int index) {
+        return traitLevels[index];
+    }
+
+    /**
+     * Gets the traits which respond to the hook, with their levels, excluding any with a level of
+     * zero. The returned map is unmodifiable.
+     *
+     * @param hook The hook
+     * @return Map of traits to levels
+     */
+    public Map<ITrait, Integer> getTraits(TraitHook hook) {
+        return hookTraitMaps.get(hook.ordinal());
+    }
+
+    /**
+     * Number of loaded trait entries which respond to the hook. Like {@link #getTraitCount()}, this
+     * matches the order and duplicates of the NBT list.
+     *
+     * @param hook The hook
+     * @return The number of trait entries for the hook
+     */
+    public int getTraitCount(TraitHook hook) {
+        return hookTraits[hook.ordinal()].length;
+    }
+
+    public ITrait getTrait(TraitHook hook, int index) {
+        return hookTraits[hook.ordinal()][index];
+    }
+
+    public int getTraitLevel(TraitHook hook, int index) {
+        return hookTraitLevels[hook.ordinal()][index];
+    }
+}
@@ -20,40 +20,51 @@ package net.silentchaos512.gear.util;
 
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.mojang.blaze3d.vertex.IVertexBuilder;
+import it.unimi.dsi.fastutil.shorts.ShortArraySet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.renderer.ActiveRenderInfo;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.network.play.server.SChangeBlockPacket;
+import net.minecraft.network.play.server.SMultiBlockChangePacket;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockRayTraceResult;
 import net.minecraft.util.math.RayTraceResult;
+import net.minecraft.util.math.SectionPos;
 import net.minecraft.util.math.shapes.ISelectionContext;
 import net.minecraft.util.math.shapes.VoxelShape;
 import net.minecraft.util.math.vector.Matrix4f;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.DrawHighlightEvent;
 import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.Tags;
 import net.minecraftforge.common.ToolType;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.items.ItemHandlerHelper;
 import net.silentchaos512.gear.SilentGear;
 import net.silentchaos512.gear.config.Config;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.function.BiPredicate;
 
 public interface IAOETool {
     /**
@@ -144,8 +155,16 @@ public interface IAOETool {
     /**
      * Handles actual AOE block breaking. Call {@link #onBlockStartBreak(ItemStack, BlockPos,
      * PlayerEntity)} inside the {@code onBlockStartBreak} method of the tool's item.
+     * <p>
+     * Extra blocks are broken as a batch with {@link #breakBlocks}: drops and experience are
+     * merged and spawned at the origin, and block changes are sent to the player with one packet
+     * per chunk section. Other tools which break multiple blocks (sickles) can use it as well.
      */
+    @Mod.EventBusSubscriber(modid = SilentGear.MOD_ID)
     final class BreakHandler {
+        // Collects item entities spawned while a batch is being broken. Only used on the server thread.
+        @Nullable private static DropCapture dropCapture;
+
         private BreakHandler() {}
 
         public static boolean onBlockStartBreak(ItemStack tool, BlockPos pos, PlayerEntity player) {
@@ -162,31 +181,106 @@ public interface IAOETool {
                 Direction side = brt.getFace();
                 List<BlockPos> extraBlocks = item.getExtraBlocks(world, brt, player, tool);
 
-                for (BlockPos pos2 : extraBlocks) {
-                    BlockState state = world.getBlockState(pos2);
-                    if (!world.isBlockLoaded(pos2) || !player.canPlayerEdit(pos2, side, tool) || !(state.canHarvestBlock(world, pos2, player)))
-                        continue;
+                breakBlocks(tool, (ServerWorld) world, (ServerPlayerEntity) player, pos, extraBlocks, true, (pos2, state) ->
+                        player.canPlayerEdit(pos2, side, tool) && state.canHarvestBlock(world, pos2, player));
+            }
+            return false;
+        }
 
-                    if (player.abilities.isCreativeMode) {
-                        if (state.removedByPlayer(world, pos2, player, true, state.getFluidState()))
-                            state.getBlock().onPlayerDestroy(world, pos2, state);
+        /**
+         * Breaks a batch of blocks as if the player had mined them with the tool. Break events are
+         * fired for each block (in creative mode too), but plain item drops and experience are
+         * merged and spawned at {@code origin}, and the block changes are sent to the player in one
+         * packet per chunk section.
+         *
+         * @param tool       The tool being used
+         * @param world      The world
+         * @param player     The player breaking the blocks
+         * @param origin     The block the player actually broke. Not included in the batch.
+         * @param positions  The other blocks to break
+         * @param damageTool If true, the tool takes damage for each block broken
+         * @param canBreak   Additional condition checked against each block's current state
+         * @return The number of blocks broken
+         */
+        public static int breakBlocks(ItemStack tool,
+                                      ServerWorld world,
+                                      ServerPlayerEntity player,
+                                      BlockPos origin,
+                                      Collection<BlockPos> positions,
+                                      boolean damageTool,
+                                      BiPredicate<BlockPos, BlockState> canBreak) {
+            if (positions.isEmpty() || dropCapture != null) return 0;
+
+            boolean creative = player.abilities.isCreativeMode;
+            Map<SectionPos, List<BlockPos>> changedBySection = new LinkedHashMap<>();
+            DropCapture capture = new DropCapture(world);
+            int blocksBroken = 0;
+
+            dropCapture = capture;
+            try {
+                for (BlockPos pos : positions) {
+                    if (tool.isEmpty() || !world.isBlockLoaded(pos)) continue;
+
+                    BlockState state = world.getBlockState(pos);
+                    if (world.isAirBlock(pos) || !canBreak.test(pos, state)) continue;
+
+                    int xp = ForgeHooks.onBlockBreakEvent(world, player.interactionManager.getGameType(), player, pos);
+                    if (xp == -1) continue;
+
+                    if (creative) {
+                        if (state.removedByPlayer(world, pos, player, false, state.getFluidState()))
+                            state.getBlock().onPlayerDestroy(world, pos, state);
                     } else {
-                        int xp = ForgeHooks.onBlockBreakEvent(world, ((ServerPlayerEntity) player).interactionManager.getGameType(), (ServerPlayerEntity) player, pos2);
-                        if (xp == -1) continue;
-                        tool.getItem().onBlockDestroyed(tool, world, state, pos2, player);
-                        TileEntity tileEntity = world.getTileEntity(pos2);
-                        if (state.removedByPlayer(world, pos2, player, true, state.getFluidState())) {
-                            state.getBlock().onPlayerDestroy(world, pos2, state);
-                            state.getBlock().harvestBlock(world, player, pos2, state, tileEntity, tool);
-                            state.getBlock().dropXpOnBlockBreak((ServerWorld) world, pos2, xp);
+                        if (damageTool) {
+                            tool.getItem().onBlockDestroyed(tool, world, state, pos, player);
+                        }
+                        TileEntity tileEntity = world.getTileEntity(pos);
+                        if (state.removedByPlayer(world, pos, player, true, state.getFluidState())) {
+                            state.getBlock().onPlayerDestroy(world, pos, state);
+                            state.getBlock().harvestBlock(world, player, pos, state, tileEntity, tool);
+                            capture.addXp(state.getBlock(), xp);
                         }
                     }
 
                     world.playEvent(2001, pos, Block.getStateId(state));
-                    ((ServerPlayerEntity) player).connection.sendPacket(new SChangeBlockPacket(world, pos));
+                    changedBySection.computeIfAbsent(SectionPos.from(pos), sp -> new ArrayList<>()).add(pos);
+                    ++blocksBroken;
                 }
+            } finally {
+                dropCapture = null;
+            }
+
+            capture.spawn(origin);
+            sendBlockChanges(world, player, changedBySection);
+            return blocksBroken;
+        }
+
+        private static void sendBlockChanges(ServerWorld world, ServerPlayerEntity player, Map<SectionPos, List<BlockPos>> changedBySection) {
+            changedBySection.forEach((sectionPos, changed) -> {
+                ChunkSection section = world.getChunk(sectionPos.getSectionX(), sectionPos.getSectionZ()).getSections()[sectionPos.getSectionY()];
+                if (changed.size() == 1 || ChunkSection.isEmpty(section)) {
+                    for (BlockPos pos : changed) {
+                        player.connection.sendPacket(new SChangeBlockPacket(world, pos));
+                    }
+                } else {
+                    ShortSet offsets = new ShortArraySet(changed.size());
+                    for (BlockPos pos : changed) {
+                        // Same packing as SectionPos#toRelativeOffset
+                        offsets.add((short) ((pos.getX() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getY() & 15)));
+                    }
+                    player.connection.sendPacket(new SMultiBlockChangePacket(sectionPos, offsets, section, false));
+                }
+            });
+        }
+
+        @SubscribeEvent(priority = EventPriority.LOWEST)
+        public static void onEntityJoinWorld(EntityJoinWorldEvent event) {
+            DropCapture capture = dropCapture;
+            // Subclasses may be special drops from other mods, which must keep their own entity
+            if (capture != null && event.getWorld() == capture.world && event.getEntity().getClass() == ItemEntity.class) {
+                capture.addItem(((ItemEntity) event.getEntity()).getItem());
+                event.setCanceled(true);
             }
-            return false;
         }
 
         /**
@@ -222,10 +316,63 @@ public interface IAOETool {
         private static boolean isOre(BlockState state) {
             return state.isIn(Tags.Blocks.ORES);
         }
+
+        private static final class DropCapture {
+            private final ServerWorld world;
+            private final List<ItemStack> items = new ArrayList<>();
+            @Nullable private Block xpBlock;
+            private int xp;
+
+            private DropCapture(ServerWorld world) {
+                this.world = world;
+            }
+
+            private void addItem(ItemStack stack) {
+                ItemStack remaining = stack.copy();
+                for (ItemStack existing : this.items) {
+                    if (remaining.isEmpty()) return;
+
+                    if (ItemHandlerHelper.canItemStacksStack(existing, remaining)) {
+                        int count = Math.min(remaining.getCount(), existing.getMaxStackSize() - existing.getCount());
+                        existing.grow(count);
+                        remaining.shrink(count);
+                    }
+                }
+                if (!remaining.isEmpty()) {
+                    this.items.add(remaining);
+                }
+            }
+
+            private void addXp(Block block, int amount) {
+                if (amount > 0) {
+                    this.xpBlock = block;
+                    this.xp += amount;
+                }
+            }
+
+            private void spawn(BlockPos pos) {
+                for (ItemStack stack : this.items) {
+                    Block.spawnAsEntity(this.world, pos, stack);
+                }
+                if (this.xpBlock != null) {
+                    this.xpBlock.dropXpOnBlockBreak(this.world, pos, this.xp);
+                }
+            }
+        }
     }
 
     @Mod.EventBusSubscriber(modid = SilentGear.MOD_ID, value = Dist.CLIENT)
     final class HighlightHandler {
+        // Extra blocks of the last highlight. Rebuilt when the target, tool, or world tick changes.
+        private static final List<BlockPos> cachedPositions = new ArrayList<>();
+        private static final List<BlockState> cachedStates = new ArrayList<>();
+        @Nullable private static World cachedWorld;
+        @Nullable private static BlockPos cachedTarget;
+        @Nullable private static Direction cachedFace;
+        private static ItemStack cachedStack = ItemStack.EMPTY;
+        private static boolean cachedCrouching;
+        private static long cachedGameTime = Long.MIN_VALUE;
+
         private HighlightHandler() {}
 
         @SubscribeEvent
@@ -243,18 +390,68 @@ public interface IAOETool {
 
                 if (stack.getItem() instanceof IAOETool) {
                     World world = player.getEntityWorld();
-                    IAOETool item = (IAOETool) stack.getItem();
+                    updateCache(world, (BlockRayTraceResult) rt, player, stack);
+                    if (cachedPositions.isEmpty()) return;
 
-                    for (BlockPos pos : item.getExtraBlocks(world, (BlockRayTraceResult) rt, player, stack)) {
-                        IVertexBuilder vertexBuilder = event.getBuffers().getBuffer(RenderType.getLines());
-                        Vector3d vec = event.getInfo().getProjectedView();
-                        BlockState blockState = world.getBlockState(pos);
-                        drawSelectionBox(event.getMatrix(), world, vertexBuilder, event.getInfo().getRenderViewEntity(), vec.x, vec.y, vec.z, pos, blockState);
+                    IVertexBuilder vertexBuilder = event.getBuffers().getBuffer(RenderType.getLines());
+                    Vector3d vec = info.getProjectedView();
+                    for (int i = 0; i < cachedPositions.size(); ++i) {
+                        drawSelectionBox(event.getMatrix(), world, vertexBuilder, entity, vec.x, vec.y, vec.z, cachedPositions.get(i), cachedStates.get(i));
                     }
                 }
             }
         }
 
+        @SubscribeEvent
+        public static void onWorldUnload(WorldEvent.Unload event) {
+            if (event.getWorld() == cachedWorld) {
+                clearCache();
+            }
+        }
+
+        @SubscribeEvent
+        public static void onLoggedOut(ClientPlayerNetworkEvent.LoggedOutEvent event) {
+            clearCache();
+        }
+
+        // Drops references to the world and stack, so they can be garbage collected
+        private static void clearCache() {
+            cachedPositions.clear();
+            cachedStates.clear();
+            cachedWorld = null;
+            cachedTarget = null;
+            cachedFace = null;
+            cachedStack = ItemStack.EMPTY;
+            cachedGameTime = Long.MIN_VALUE;
+        }
+
+        private static void updateCache(World world, BlockRayTraceResult rt, PlayerEntity player, ItemStack stack) {
+            // Blocks can only change on a world tick, so the result is reused for the rest of the tick
+            long gameTime = world.getGameTime();
+            if (world == cachedWorld
+                    && gameTime == cachedGameTime
+                    && stack == cachedStack
+                    && player.isCrouching() == cachedCrouching
+                    && rt.getFace() == cachedFace
+                    && rt.getPos().equals(cachedTarget)) {
+                return;
+            }
+
+            cachedWorld = world;
+            cachedGameTime = gameTime;
+            cachedStack = stack;
+            cachedCrouching = player.isCrouching();
+            cachedFace = rt.getFace();
+            cachedTarget = rt.getPos();
+
+            cachedPositions.clear();
+            cachedStates.clear();
+            for (BlockPos pos : ((IAOETool) stack.getItem()).getExtraBlocks(world, rt, player, stack)) {
+                cachedPositions.add(pos);
+                cachedStates.add(world.getBlockState(pos));
+            }
+        }
+
         // Copied from WorldRenderer
         @SuppressWarnings("MethodWithTooManyParameters")
         private static void drawSelectionBox(MatrixStack matrixStackIn, World world, IVertexBuilder bufferIn, Entity entityIn, double xIn, double yIn, double zIn, BlockPos blockPosIn, BlockState blockStateIn) {
@@ -0,0 +1,83 @@
+package net.silentchaos512.gear.util;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * A reverse index from items to the objects (materials, parts) whose ingredient could match them.
+ * Simple ingredients only check the item, so they are indexed by the items in their matching
+ * stacks. Anything else (NBT ingredients, custom ingredients) is always tested. Candidates keep the
+ * order of the original list, so {@link #getFirstMatch(ItemStack)} returns the same result as
+ * testing every ingredient in order.
+ *
+ * @param <T> The type of object being indexed
+ */
+public final class IngredientIndex<T> {
+    private final Function<T, Ingredient> ingredientGetter;
+    private final Map<Item, List<T>> candidatesByItem;
+    private final List<T> alwaysTest;
+
+    private IngredientIndex(Function<T, Ingredient> ingredientGetter, Map<Item, List<T>> candidatesByItem, List<T> alwaysTest) {
+        this.ingredientGetter = ingredientGetter;
+        this.candidatesByItem = candidatesByItem;
+        this.alwaysTest = alwaysTest;
+    }
+
+    public static <T> IngredientIndex<T> build(Collection<T> values, Function<T, Ingredient> ingredientGetter) {
+        // Collect the position of each candidate, so lists can be merged in order
+        Map<Item, List<Integer>> indicesByItem = new HashMap<>();
+        List<Integer> alwaysTestIndices = new ArrayList<>();
+        List<T> list = new ArrayList<>(values);
+
+        for (int i = 0; i < list.size(); ++i) {
+            Ingredient ingredient = ingredientGetter.apply(list.get(i));
+            if (ingredient.isSimple()) {
+                for (ItemStack stack : ingredient.getMatchingStacks()) {
+                    List<Integer> indices = indicesByItem.computeIfAbsent(stack.getItem(), item -> new ArrayList<>());
+                    if (indices.isEmpty() || indices.get(indices.size() - 1) != i) {
+                        indices.add(i);
+                    }
+                }
+            } else {
+                alwaysTestIndices.add(i);
+            }
+        }
+
+        ImmutableMap.Builder<Item, List<T>> builder = ImmutableMap.builder();
+        indicesByItem.forEach((item, indices) -> {
+            SortedSet<Integer> merged = new TreeSet<>(indices);
+            merged.addAll(alwaysTestIndices);
+            builder.put(item, merged.stream().map(list::get).collect(ImmutableList.toImmutableList()));
+        });
+        List<T> alwaysTest = alwaysTestIndices.stream().map(list::get).collect(ImmutableList.toImmutableList());
+
+        return new IngredientIndex<>(ingredientGetter, builder.build(), alwaysTest);
+    }
+
+    /**
+     * Gets the first object whose ingredient matches the stack, only testing the candidates for the
+     * stack's item.
+     *
+     * @param stack The item to match
+     * @return The first matching object, or null if there is none
+     */
+    @Nullable
+    public T getFirstMatch(ItemStack stack) {
+        if (stack.isEmpty()) return null;
+
+        List<T> candidates = this.candidatesByItem.getOrDefault(stack.getItem(), this.alwaysTest);
+        for (T candidate : candidates) {
+            if (this.ingredientGetter.apply(candidate).test(stack)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,127 @@
+package net.silentchaos512.gear.util;
+
+import net.minecraft.item.ItemStack;
+import net.silentchaos512.gear.api.item.GearType;
+import net.silentchaos512.gear.api.part.IPartData;
+import net.silentchaos512.gear.api.part.PartType;
+import net.silentchaos512.gear.api.traits.TraitInstance;
+import net.silentchaos512.gear.gear.material.MaterialInstance;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes values which parts would otherwise compute over and over while a single gear item's
+ * stats are recalculated. For example, compound parts are asked for modifiers once per stat, and
+ * each request would decode the part's materials from NBT again.
+ * <p>
+ * A context is opened by {@link GearData#recalculateStats} and is only visible to the thread which
+ * opened it, while it is open. Outside of a recalculation, {@link #current()} returns null and
+ * values must be computed directly.
+ */
+public final class RecalculationContext implements AutoCloseable {
+    private static final ThreadLocal<RecalculationContext> CURRENT = new ThreadLocal<>();
+
+    @Nullable private final RecalculationContext previous;
+    private final Map<ItemStack, List<MaterialInstance>> materials = new IdentityHashMap<>();
+    private final Map<IPartData, Map<TraitKey, List<TraitInstance>>> traits = new IdentityHashMap<>();
+    private final Map<IPartData, Float> synergy = new IdentityHashMap<>();
+
+    private RecalculationContext(@Nullable RecalculationContext previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Opens a new context for the current thread. Must be closed, preferably with
+     * try-with-resources.
+     *
+     * @return The new context
+     */
+    public static RecalculationContext open() {
+        RecalculationContext context = new RecalculationContext(CURRENT.get());
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Gets the context of the recalculation running on this thread, if any.
+     *
+     * @return The current context, or null if no recalculation is running
+     */
+    @Nullable
+    public static RecalculationContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Gets the materials of a part item, decoding them only once per recalculation. Returns a copy
+     * which the caller is free to modify.
+     *
+     * @param partItem The part item
+     * @param decoder  Function to decode the materials if they are not memoized
+     * @return The materials
+     */
+    public List<MaterialInstance> getMaterials(ItemStack partItem, Function<ItemStack, List<MaterialInstance>> decoder) {
+        return new ArrayList<>(this.materials.computeIfAbsent(partItem, decoder));
+    }
+
+    /**
+     * Gets the traits of a part, computing them only once per recalculation for each part type and
+     * gear type. Returns a copy which the caller is free to modify.
+     *
+     * @param part     The part
+     * @param partType The part type the traits were requested for
+     * @param gearType The gear type the traits were requested for
+     * @param supplier Computes the traits if they are not memoized
+     * @return The traits
+     */
+    public List<TraitInstance> getTraits(IPartData part, PartType partType, GearType gearType, Supplier<List<TraitInstance>> supplier) {
+        Map<TraitKey, List<TraitInstance>> map = this.traits.computeIfAbsent(part, p -> new HashMap<>());
+        return new ArrayList<>(map.computeIfAbsent(new TraitKey(partType, gearType), k -> supplier.get()));
+    }
+
+    /**
+     * Gets the synergy multiplier of a part, computing it only once per recalculation.
+     *
+     * @param part     The part
+     * @param supplier Computes the synergy if it is not memoized
+     * @return The synergy multiplier
+     */
+    public float getSynergy(IPartData part, Supplier<Float> supplier) {
+        return this.synergy.computeIfAbsent(part, p -> supplier.get());
+    }
+
+    @Override
+    public void close() {
+        if (this.previous != null) {
+            CURRENT.set(this.previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    private static final class TraitKey {
+        private final PartType partType;
+        private final GearType gearType;
+
+        private TraitKey(PartType partType, GearType gearType) {
+            this.partType = partType;
+            this.gearType = gearType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TraitKey that = (TraitKey) o;
+            return partType == that.partType && gearType == that.gearType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * partType.hashCode() + gearType.hashCode();
+        }
+    }
+}
@@ -22,14 +22,10 @@ import com.google.common.collect.ImmutableMap;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.nbt.INBT;
-import net.minecraft.nbt.ListNBT;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.ModList;
 import net.silentchaos512.gear.SilentGear;
 import net.silentchaos512.gear.api.event.GetTraitsEvent;
@@ -39,11 +35,11 @@ import net.silentchaos512.gear.api.part.PartType;
 import net.silentchaos512.gear.api.traits.ITrait;
 import net.silentchaos512.gear.api.traits.TraitActionContext;
 import net.silentchaos512.gear.api.traits.TraitFunction;
+import net.silentchaos512.gear.api.traits.TraitHook;
 import net.silentchaos512.gear.api.traits.TraitInstance;
 import net.silentchaos512.gear.compat.curios.CuriosCompat;
 import net.silentchaos512.gear.gear.material.MaterialInstance;
 import net.silentchaos512.gear.gear.part.PartData;
-import net.silentchaos512.gear.gear.trait.TraitManager;
 
 import javax.annotation.Nullable;
 import java.util.*;
@@ -55,7 +51,7 @@ public final class TraitHelper {
      * An easy way to activate an item's traits from anywhere. <strong>Use with care!</strong>
      * Calling this frequently (like every render tick) causes FPS to tank.
      * <p>
-     * This implementation pulls the item's traits straight from NBT to minimize object creation.
+     * This implementation uses the item's cached {@link GearSnapshot} to avoid decoding NBT.
      * The {@link TraitFunction} is applied to every trait.
      *
      * @param gear       The {@link net.silentchaos512.gear.api.item.ICoreItem} affected
@@ -72,20 +68,39 @@ public final class TraitHelper {
             return inputValue;
         }
 
-        ListNBT tagList = GearData.getPropertiesData(gear).getList("Traits", Constants.NBT.TAG_COMPOUND);
+        GearSnapshot snapshot = GearSnapshot.of(gear);
         float value = inputValue;
 
-        for (INBT nbt : tagList) {
-            if (nbt instanceof CompoundNBT) {
-                CompoundNBT tagCompound = (CompoundNBT) nbt;
-                String regName = tagCompound.getString("Name");
-                ITrait trait = TraitManager.get(regName);
+        for (int i = 0; i < snapshot.getTraitCount(); ++i) {
+            value = action.apply(snapshot.getTrait(i), snapshot.getTraitLevel(i), value);
+        }
 
-                if (trait != null) {
-                    int level = tagCompound.getByte("Level");
-                    value = action.apply(trait, level, value);
-                }
-            }
+        return value;
+    }
+
+    /**
+     * Activates only the traits which respond to the given hook. Prefer this over {@link
+     * #activateTraits(ItemStack, float, TraitFunction)} when the action calls a single hook
+     * method, since traits which do not implement it are skipped entirely.
+     *
+     * @param gear       The {@link net.silentchaos512.gear.api.item.ICoreItem} affected
+     * @param inputValue The base value to have the traits act on.
+     * @param hook       The hook the action calls
+     * @param action     The specific action to apply to each trait
+     * @return The {@code inputValue} modified by traits.
+     */
+    public static float activateTraits(ItemStack gear, final float inputValue, TraitHook hook, TraitFunction action) {
+        if (!GearHelper.isGear(gear)) {
+            SilentGear.LOGGER.error("Called activateTraits on non-gear item, {}", gear);
+            SilentGear.LOGGER.catching(new IllegalArgumentException());
+            return inputValue;
+        }
+
+        GearSnapshot snapshot = GearSnapshot.of(gear);
+        float value = inputValue;
+
+        for (int i = 0; i < snapshot.getTraitCount(hook); ++i) {
+            value = action.apply(snapshot.getTrait(hook, i), snapshot.getTraitLevel(hook, i), value);
         }
 
         return value;
@@ -93,8 +108,8 @@ public final class TraitHelper {
 
     /**
      * Gets the level of the trait on the gear, or zero if it does not have the trait. Similar to
-     * {@link #activateTraits(ItemStack, float, TraitFunction)}, this pulls the traits straight from
-     * NBT to minimize object creation.
+     * {@link #activateTraits(ItemStack, float, TraitFunction)}, this reads from the item's cached
+     * {@link GearSnapshot}.
      *
      * @param gear  The {@link net.silentchaos512.gear.api.item.ICoreItem}
      * @param trait The trait to look for
@@ -106,8 +121,8 @@ public final class TraitHelper {
 
     /**
      * Gets the level of the trait on the gear, or zero if it does not have the trait. Similar to
-     * {@link #activateTraits(ItemStack, float, TraitFunction)}, this pulls the traits straight from
-     * NBT to minimize object creation.
+     * {@link #activateTraits(ItemStack, float, TraitFunction)}, this reads from the item's cached
+     * {@link GearSnapshot}.
      *
      * @param gear  The {@link net.silentchaos512.gear.api.item.ICoreItem}
      * @param trait The trait to look for
@@ -127,17 +142,7 @@ public final class TraitHelper {
      */
     public static int getTraitLevel(ItemStack gear, ResourceLocation traitId) {
         if (GearHelper.isGear(gear)) {
-            ListNBT tagList = GearData.getPropertiesData(gear).getList("Traits", Constants.NBT.TAG_COMPOUND);
-
-            for (INBT nbt : tagList) {
-                if (nbt instanceof CompoundNBT) {
-                    CompoundNBT tagCompound = (CompoundNBT) nbt;
-                    String regName = tagCompound.getString("Name");
-                    if (regName.equals(traitId.toString())) {
-                        return tagCompound.getByte("Level");
-                    }
-                }
-            }
+            return GearSnapshot.of(gear).getTraitLevel(traitId);
         }
 
         return 0;
@@ -169,19 +174,7 @@ public final class TraitHelper {
      */
     public static boolean hasTrait(ItemStack gear, ResourceLocation traitId) {
         if (GearHelper.isGear(gear)) {
-            ListNBT tagList = GearData.getPropertiesData(gear).getList("Traits", Constants.NBT.TAG_COMPOUND);
-
-            for (INBT nbt : tagList) {
-                if (nbt instanceof CompoundNBT) {
-                    CompoundNBT tagCompound = (CompoundNBT) nbt;
-                    String regName = tagCompound.getString("Name");
-                    if (regName.equals(traitId.toString())) {
-                        return true;
-                    }
-                }
-            }
-
-            return false;
+            return GearSnapshot.of(gear).hasTrait(traitId);
         }
 
         return false;
@@ -233,25 +226,28 @@ public final class TraitHelper {
         return false;
     }
 
+    /**
+     * Gets the traits stored in the gear's NBT. The returned map is unmodifiable.
+     *
+     * @param gear The gear item
+     * @return Map of traits to levels, excluding any traits with a level of zero
+     */
     public static Map<ITrait, Integer> getCachedTraits(ItemStack gear) {
         if (!GearHelper.isGear(gear)) return ImmutableMap.of();
+        return GearSnapshot.of(gear).getTraits();
+    }
 
-        Map<ITrait, Integer> result = new LinkedHashMap<>();
-        ListNBT tagList = GearData.getPropertiesData(gear).getList("Traits", Constants.NBT.TAG_COMPOUND);
-
-        for (INBT nbt : tagList) {
-            if (nbt instanceof CompoundNBT) {
-                CompoundNBT tagCompound = (CompoundNBT) nbt;
-                String name = tagCompound.getString("Name");
-                ITrait trait = TraitManager.get(name);
-                int level = tagCompound.getByte("Level");
-                if (trait != null && level > 0) {
-                    result.put(trait, level);
-                }
-            }
-        }
-
-        return result;
+    /**
+     * Gets the traits stored in the gear's NBT which respond to the hook. The returned map is
+     * unmodifiable.
+     *
+     * @param gear The gear item
+     * @param hook The hook
+     * @return Map of traits to levels, excluding any traits with a level of zero
+     */
+    public static Map<ITrait, Integer> getCachedTraits(ItemStack gear, TraitHook hook) {
+        if (!GearHelper.isGear(gear)) return ImmutableMap.of();
+        return GearSnapshot.of(gear).getTraits(hook);
     }
 
     @Deprecated
@@ -360,17 +356,16 @@ public final class TraitHelper {
     }
 
     static void tickTraits(World world, @Nullable PlayerEntity player, ItemStack gear, boolean isEquipped) {
-        ListNBT tagList = GearData.getPropertiesData(gear).getList("Traits", Constants.NBT.TAG_COMPOUND);
+        GearSnapshot snapshot = GearSnapshot.of(gear);
 
-        for (int i = 0; i < tagList.size(); ++i) {
-            CompoundNBT tagCompound = tagList.getCompound(i);
-            String regName = tagCompound.getString("Name");
-            ITrait trait = TraitManager.get(regName);
+        long gameTime = world.getGameTime();
 
-            if (trait != null) {
-                int level = tagCompound.getByte("Level");
-                trait.onUpdate(new TraitActionContext(player, level, gear), isEquipped);
-            }
+        for (int i = 0; i < snapshot.getTraitCount(TraitHook.UPDATE); ++i) {
+            ITrait trait = snapshot.getTrait(TraitHook.UPDATE, i);
+            int interval = trait.getUpdateInterval();
+            if (interval > 1 && gameTime % interval != 0) continue;
+
+            trait.onUpdate(new TraitActionContext(player, snapshot.getTraitLevel(TraitHook.UPDATE, i), gear), isEquipped);
         }
     }
 }